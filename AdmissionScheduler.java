@@ -0,0 +1,303 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정원 기반 자동 선발
+ * <p>
+ * 정원을 정한 동아리의 대기 중인 가입 신청서를 선발 기준에 따라 순위를 매기고, 남은 자리만큼 자동으로 승인합니다.
+ * 자리가 차면 나머지 신청서는 동아리별 대기자 명단({@link IndexedHeap})에 순위대로 남고,
+ * 회원 탈퇴나 정원 증가로 자리가 나면 명단 맨 앞부터 O(log n)에 승격합니다.
+ * 정원이 없는(0) 동아리는 지금처럼 회장이 직접 승인합니다.
+ * </p>
+ *
+ * <p>
+ * 동작 방식:
+ * <ul>
+ *   <li>{@link #runRound()}: 정원이 있는 모든 동아리의 대기 목록으로 명단을 새로 만들고(O(n)) 빈 자리를 채웁니다.
+ *       동아리마다 독립적이므로 병렬 스트림으로 나누어 처리합니다.</li>
+ *   <li>정원이 있는 동아리의 명단은 처음 필요할 때(새 신청, 회원 탈퇴, 정원 변경) 현재 대기 목록으로 만들므로,
+ *       프로그램을 다시 시작했거나 방금 정원을 정한 동아리도 모집 라운드 없이 자리가 나는 즉시 승격합니다.</li>
+ *   <li>새 신청서가 들어오면 명단에 넣고, 빈 자리가 있으면 바로 승인합니다.</li>
+ *   <li>회장이 직접 승인·거절한 신청서는 {@link #withdraw(Club, Member)}로 명단에서 지웁니다.
+ *       기한이 지나 만료된 신청서는 명단에 남아 있다가 승격할 차례가 되면 건너뜁니다.</li>
+ *   <li>자동 승인된 신청서는 만료 예약 취소, 모집 통계 기록, 승인 알림, 신청자별 "가입 승인" 감사 기록까지
+ *       회장이 승인할 때와 똑같이 처리합니다. 감사 기록의 작업자는 {@value #AUDIT_ACTOR}({@value #AUDIT_ROLE})입니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 선발 기준은 시스템 속성 {@code club.admission.order}(기본값 "{@value #DEFAULT_ORDER}")로 정합니다.
+ * 쉼표로 구분한 기준을 앞에서부터 비교하며, 모두 같으면 먼저 신청한 순서로 정합니다.
+ * <ul>
+ *   <li>priority: 우선 선발 대상 먼저</li>
+ *   <li>score: 평가 점수가 높은 순</li>
+ *   <li>appliedAt: 먼저 신청한 순</li>
+ * </ul>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class AdmissionScheduler {
+    static final String DEFAULT_ORDER = "priority,score,appliedAt";
+    static final String AUDIT_ACTOR = "system";
+    static final String AUDIT_ROLE = "자동 선발";
+
+    private final ClubManager clubManager;
+    private final ApplicationExpiry expiry;
+    private final RecruitmentAnalytics analytics;
+    private final NotificationOutbox outbox;
+    private final AuditLog auditLog;
+    private final Comparator<Member> ranking;
+    private final Map<String, IndexedHeap<String, Member>> waitlists = new ConcurrentHashMap<>();
+
+    /**
+     * {@link AdmissionScheduler} 객체를 초기화합니다.
+     *
+     * @param clubManager 동아리를 관리하는 {@link ClubManager}
+     * @param expiry 자동 승인된 신청서의 만료 예약을 취소할 {@link ApplicationExpiry}. null이면 취소하지 않습니다.
+     * @param analytics 자동 승인을 기록할 {@link RecruitmentAnalytics}. null이면 기록하지 않습니다.
+     * @param outbox 승인 알림을 보낼 {@link NotificationOutbox}. null이면 알리지 않습니다.
+     * @param auditLog 자동 승인을 신청자별로 기록할 {@link AuditLog}. null이면 기록하지 않습니다.
+     * @param ranking 신청서 순서. 앞선 신청서가 먼저 승인됩니다.
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public AdmissionScheduler(ClubManager clubManager, ApplicationExpiry expiry, RecruitmentAnalytics analytics,
+                              NotificationOutbox outbox, AuditLog auditLog, Comparator<Member> ranking) {
+        this.clubManager = clubManager;
+        this.expiry = expiry;
+        this.analytics = analytics;
+        this.outbox = outbox;
+        this.auditLog = auditLog;
+        this.ranking = ranking;
+    }
+
+    /**
+     * 시스템 속성 {@code club.admission.order}의 선발 기준으로 {@link AdmissionScheduler}를 만듭니다.
+     * 기준이 잘못되었으면 에러 메시지를 출력하고 기본 기준을 사용합니다.
+     *
+     * @return {@link AdmissionScheduler} 객체
+     */
+    static AdmissionScheduler fromSystemProperties(ClubManager clubManager, ApplicationExpiry expiry,
+                                                   RecruitmentAnalytics analytics, NotificationOutbox outbox,
+                                                   AuditLog auditLog) {
+        String order = System.getProperty("club.admission.order", DEFAULT_ORDER);
+        Comparator<Member> ranking;
+        try {
+            ranking = ranking(order);
+        } catch (IllegalArgumentException e) {
+            System.out.println("[ERROR] 선발 기준을 읽을 수 없어 기본값(" + DEFAULT_ORDER + ")을 사용합니다: " + e.getMessage());
+            ranking = ranking(DEFAULT_ORDER);
+        }
+        return new AdmissionScheduler(clubManager, expiry, analytics, outbox, auditLog, ranking);
+    }
+
+    /**
+     * 선발 기준 문자열로 신청서 순서를 만듭니다. 마지막에는 항상 신청 시각과 이름 순서를 덧붙입니다.
+     *
+     * @param order 쉼표로 구분한 기준 (priority, score, appliedAt)
+     * @return 신청서 순서
+     * @throws IllegalArgumentException 알 수 없는 기준이 있는 경우
+     */
+    static Comparator<Member> ranking(String order) {
+        Comparator<Member> comparator = null;
+        for (String criterion : order.split(",")) {
+            Comparator<Member> next;
+            switch (criterion.trim()) {
+                case "priority":
+                    next = Comparator.comparing(Member::isPriority).reversed();
+                    break;
+                case "score":
+                    next = Comparator.comparingInt(Member::getScore).reversed();
+                    break;
+                case "appliedAt":
+                    next = Comparator.comparingLong(Member::getAppliedAt);
+                    break;
+                case "":
+                    continue;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 선발 기준: " + criterion.trim());
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Member> tieBreak = Comparator.comparingLong(Member::getAppliedAt).thenComparing(Member::getName);
+        return comparator == null ? tieBreak : comparator.thenComparing(tieBreak);
+    }
+
+    /**
+     * 정원이 있는 모든 동아리의 모집 라운드를 진행합니다.
+     * <p>
+     * 동아리마다 현재 대기 목록으로 대기자 명단을 새로 만들고 남은 자리만큼 순위대로 승인합니다.
+     * 파일 저장소에 기록하려면 호출한 쪽에서 {@link ClubManager#save()}를 호출해야 합니다.
+     * </p>
+     *
+     * @return 진행한 동아리 수, 승인한 신청 수, 대기자 명단에 남은 신청 수 ({int[]{동아리, 승인, 대기}})
+     */
+    public int[] runRound() {
+        List<Club> clubs = ClubQuery.clubs().where("capacity > 0", club -> club.getCapacity() > 0).list(clubManager);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger waiting = new AtomicInteger();
+        clubs.parallelStream().forEach(club -> {
+            IndexedHeap<String, Member> waitlist = new IndexedHeap<>(ranking, club.getPendingApplications(), Member::getKey);
+            synchronized (waitlist) {
+                waitlists.put(club.getName(), waitlist);
+                admitted.addAndGet(fill(club, waitlist));
+                waiting.addAndGet(waitlist.size());
+            }
+        });
+        return new int[]{clubs.size(), admitted.get(), waiting.get()};
+    }
+
+    /**
+     * 새로 제출된 신청서를 대기자 명단에 넣고, 빈 자리가 있으면 바로 승인합니다.
+     * 정원이 없는 동아리에서는 아무 동작도 하지 않습니다.
+     *
+     * @param club 신청한 동아리
+     * @param member 제출된 신청서
+     * @return 바로 승인되었으면 true
+     */
+    public boolean track(Club club, Member member) {
+        IndexedHeap<String, Member> waitlist = waitlist(club);
+        if (waitlist == null) return false;
+        synchronized (waitlist) {
+            waitlist.put(member.getKey(), member);
+            fill(club, waitlist);
+            return !waitlist.contains(member.getKey());
+        }
+    }
+
+    /**
+     * 회장이 직접 승인·거절한 신청서를 대기자 명단에서 지웁니다.
+     *
+     * @param club 신청한 동아리
+     * @param member 처리된 신청서
+     */
+    public void withdraw(Club club, Member member) {
+        IndexedHeap<String, Member> waitlist = waitlists.get(club.getName());
+        if (waitlist == null) return;
+        synchronized (waitlist) {
+            waitlist.remove(member.getKey());
+        }
+    }
+
+    /**
+     * 신청서의 우선 선발 여부와 점수를 바꾸고 대기 순위를 고칩니다.
+     *
+     * @param club 신청한 동아리
+     * @param member 평가할 신청서
+     * @param priority 우선 선발 대상 여부
+     * @param score 평가 점수
+     */
+    public void rate(Club club, Member member, boolean priority, int score) {
+        IndexedHeap<String, Member> waitlist = waitlists.get(club.getName());
+        if (waitlist == null) {
+            member.setRanking(priority, score);
+            return;
+        }
+        synchronized (waitlist) {
+            Member queued = waitlist.get(member.getKey());
+            member.setRanking(priority, score);
+            if (queued != null) {
+                queued.setRanking(priority, score);
+                waitlist.update(member.getKey());
+            }
+        }
+    }
+
+    /**
+     * 회원 탈퇴나 정원 변경으로 자리가 났을 때 대기자 명단에서 승격합니다.
+     * <p>
+     * 명단이 아직 없으면 현재 대기 목록으로 만듭니다.
+     * 정원을 없앤(0) 동아리는 명단을 지우고 회장이 직접 승인하는 방식으로 돌아갑니다.
+     * </p>
+     *
+     * @param club 자리가 난 동아리
+     * @return 승인한 신청 수
+     */
+    public int seatsChanged(Club club) {
+        if (club.getCapacity() == 0) {
+            waitlists.remove(club.getName());
+            return 0;
+        }
+        IndexedHeap<String, Member> waitlist = waitlist(club);
+        synchronized (waitlist) {
+            return fill(club, waitlist);
+        }
+    }
+
+    /**
+     * 삭제하거나 보관한 동아리의 대기자 명단을 지웁니다.
+     *
+     * @param clubName 동아리 이름
+     */
+    public void forget(String clubName) {
+        waitlists.remove(clubName);
+    }
+
+    /**
+     * 동아리의 대기자 명단을 순위대로 반환합니다.
+     *
+     * @param clubName 동아리 이름
+     * @return 순위대로 정렬된 신청서 리스트. 명단을 아직 만들지 않은 동아리는 빈 리스트
+     */
+    public List<Member> getWaitlist(String clubName) {
+        IndexedHeap<String, Member> waitlist = waitlists.get(clubName);
+        if (waitlist == null) return new ArrayList<>();
+        List<Member> members;
+        synchronized (waitlist) {
+            members = waitlist.values();
+        }
+        members.sort(ranking);
+        return members;
+    }
+
+    /**
+     * 정원이 있는 동아리의 대기자 명단을 반환합니다. 명단이 없으면 현재 대기 목록으로 O(n)에 만듭니다.
+     *
+     * @return 대기자 명단. 정원이 없는 동아리는 null
+     */
+    private IndexedHeap<String, Member> waitlist(Club club) {
+        if (club.getCapacity() == 0) return null;
+        return waitlists.computeIfAbsent(club.getName(),
+                name -> new IndexedHeap<>(ranking, club.getPendingApplications(), Member::getKey));
+    }
+
+    /**
+     * 남은 자리만큼 명단 맨 앞부터 승인합니다. 이미 처리되었거나 만료된 신청서는 건너뜁니다.
+     * 호출하는 쪽에서 명단을 잠근 상태여야 합니다.
+     *
+     * @return 승인한 신청 수
+     */
+    private int fill(Club club, IndexedHeap<String, Member> waitlist) {
+        List<Member> admitted = new ArrayList<>();
+        int open;
+        while ((open = club.getOpenSeats()) > 0 && !waitlist.isEmpty()) {
+            List<Member> chosen = new ArrayList<>(Math.min(open, waitlist.size()));
+            while (chosen.size() < open && !waitlist.isEmpty()) {
+                chosen.add(waitlist.poll());
+            }
+            admitted.addAll(club.admitApplications(chosen));
+        }
+        if (admitted.isEmpty()) return 0;
+
+        clubManager.updateClub(club);
+        List<String> names = new ArrayList<>(admitted.size());
+        for (Member member : admitted) {
+            if (expiry != null) expiry.cancel(club, member);
+            if (analytics != null) analytics.recordApproval(club.getName(), member);
+            if (auditLog != null) auditLog.record(AUDIT_ACTOR, AUDIT_ROLE, "가입 승인", club.getName(), member.getName());
+            names.add(member.getName());
+        }
+        if (outbox != null) {
+            outbox.enqueueAll("승인", club.getName(), names,
+                    "'" + club.getName() + "' 동아리 가입 신청이 승인되었습니다.");
+        }
+        return admitted.size();
+    }
+}
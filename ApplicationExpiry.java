@@ -0,0 +1,339 @@
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래된 가입 신청서 자동 만료
+ * <p>
+ * 처리되지 않은 가입 신청서가 대기 목록에 계속 쌓이지 않도록, 정책에 따라 만료된 신청서를 대기 목록에서 제거합니다.
+ * 신청서마다 타이머 스레드를 두지 않고 하나의 {@link TimingWheel}에 만료 시각을 예약하며,
+ * 1초마다 도는 정리 스레드가 만료된 신청서를 동아리별로 모아 한 번에 제거합니다.
+ * </p>
+ *
+ * <p>
+ * 만료 정책:
+ * <ul>
+ *   <li>전체 정책: 신청 후 {@code club.application.ttlDays}일(기본값 30일, 0이면 만료 없음)이 지나면 만료됩니다.</li>
+ *   <li>동아리별 정책: 정책 파일(기본값 "expiry_policies.txt")에 "동아리 이름,기간(일),모집 마감일(yyyy-MM-dd)" 형식으로
+ *       적으며, 기간과 마감일 중 하나는 비워 둘 수 있습니다. 동아리별 정책이 있으면 전체 정책 대신 사용합니다.</li>
+ *   <li>기간과 마감일이 모두 있으면 먼저 오는 시각에 만료되며, 마감일은 그날이 끝나는 시각을 뜻합니다.</li>
+ * </ul>
+ * 만료된 신청자에게는 {@link NotificationOutbox}로 알림을 보냅니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ApplicationExpiry {
+    static final String DEFAULT_POLICY_FILE = "expiry_policies.txt";
+    static final long DEFAULT_TTL_DAYS = 30;
+    static final long TICK_MILLIS = 1_000;
+    static final int BATCH_SIZE = 1024;
+
+    /**
+     * 만료 정책
+     */
+    static final class Policy {
+        final long ttlMillis;
+        final long deadline;
+
+        /**
+         * {@link Policy} 객체를 초기화합니다.
+         *
+         * @param ttlMillis 신청 후 만료까지의 기간(밀리초). 0 이하이면 기간 제한 없음
+         * @param deadline 모집 마감 시각(epoch ms). 0 이하이면 마감 없음
+         */
+        Policy(long ttlMillis, long deadline) {
+            this.ttlMillis = ttlMillis;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 주어진 시각에 제출된 신청서의 만료 시각을 계산합니다.
+         *
+         * @param appliedAt 신청 시각(epoch ms)
+         * @return 만료 시각(epoch ms). 만료되지 않으면 {@link Long#MAX_VALUE}
+         */
+        long expiresAt(long appliedAt) {
+            long expiresAt = Long.MAX_VALUE;
+            if (ttlMillis > 0) expiresAt = appliedAt + ttlMillis;
+            if (deadline > 0) expiresAt = Math.min(expiresAt, deadline);
+            return expiresAt;
+        }
+    }
+
+    /**
+     * 휠에 예약되는 신청서 식별 정보
+     */
+    private static final class Entry {
+        final String club;
+        final String applicant;
+        final long appliedAt;
+
+        Entry(String club, String applicant, long appliedAt) {
+            this.club = club;
+            this.applicant = applicant;
+            this.appliedAt = appliedAt;
+        }
+    }
+
+    private final ClubManager clubManager;
+    private final NotificationOutbox outbox;
+    private final RecruitmentAnalytics analytics;
+    private final TimingWheel<Entry> wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    private final Map<String, TimingWheel.Timeout<Entry>> timeouts = new ConcurrentHashMap<>();
+    private final Map<String, Policy> clubPolicies = new ConcurrentHashMap<>();
+    private final Policy globalPolicy;
+    private final AtomicLong expiredCount = new AtomicLong();
+    private Thread sweeper;
+
+    /**
+     * {@link ApplicationExpiry} 객체를 초기화합니다.
+     *
+     * @param clubManager 신청서를 제거할 {@link ClubManager}
+     * @param outbox 만료 알림을 보낼 {@link NotificationOutbox}. null이면 알림을 보내지 않습니다.
+     * @param analytics 만료 건수를 기록할 {@link RecruitmentAnalytics}. null이면 기록하지 않습니다.
+     * @param globalPolicy 동아리별 정책이 없는 동아리에 적용할 정책
+     * @param clubPolicies 동아리 이름-정책 맵
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public ApplicationExpiry(ClubManager clubManager, NotificationOutbox outbox, RecruitmentAnalytics analytics,
+                             Policy globalPolicy, Map<String, Policy> clubPolicies) {
+        this.clubManager = clubManager;
+        this.outbox = outbox;
+        this.analytics = analytics;
+        this.globalPolicy = globalPolicy;
+        this.clubPolicies.putAll(clubPolicies);
+    }
+
+    /**
+     * 시스템 속성으로 설정한 만료 정책을 읽어 옵니다.
+     * <p>
+     * {@code club.application.ttlDays}(기본값 30)와 {@code club.application.policyFile}(기본값 "expiry_policies.txt")을 사용합니다.
+     * </p>
+     *
+     * @param clubManager 신청서를 제거할 {@link ClubManager}
+     * @param outbox 만료 알림을 보낼 {@link NotificationOutbox}
+     * @param analytics 만료 건수를 기록할 {@link RecruitmentAnalytics}
+     * @return {@link ApplicationExpiry} 객체
+     */
+    static ApplicationExpiry fromSystemProperties(ClubManager clubManager, NotificationOutbox outbox,
+                                                  RecruitmentAnalytics analytics) {
+        long ttlDays = Long.getLong("club.application.ttlDays", DEFAULT_TTL_DAYS);
+        return new ApplicationExpiry(clubManager, outbox, analytics, new Policy(TimeUnit.DAYS.toMillis(ttlDays), 0),
+                readPolicies(System.getProperty("club.application.policyFile", DEFAULT_POLICY_FILE)));
+    }
+
+    /**
+     * 동아리별 정책 파일을 읽어 동아리 이름-정책 맵으로 반환합니다.
+     * <p>
+     * 파일이 없으면 빈 맵을 반환하며, 형식이 잘못된 줄은 에러 메시지를 출력하고 건너뜁니다.
+     * </p>
+     *
+     * @param fileName 정책 파일 경로
+     * @return 동아리 이름-정책 맵
+     */
+    static Map<String, Policy> readPolicies(String fileName) {
+        Map<String, Policy> policies = new HashMap<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                new FileInputStream(fileName), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) continue;
+                String[] parts = line.split(",", -1);
+                try {
+                    long ttlMillis = parts.length > 1 && !parts[1].trim().isEmpty()
+                            ? TimeUnit.DAYS.toMillis(Long.parseLong(parts[1].trim())) : 0;
+                    long deadline = parts.length > 2 && !parts[2].trim().isEmpty()
+                            ? endOfDay(parts[2].trim()) : 0;
+                    policies.put(parts[0].trim(), new Policy(ttlMillis, deadline));
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    System.out.println("[ERROR] 잘못된 만료 정책을 건너뜁니다: " + line);
+                }
+            }
+        } catch (FileNotFoundException e) {
+            // 정책 파일이 없으면 전체 정책만 사용합니다.
+        } catch (IOException e) {
+            System.out.println("[ERROR] 만료 정책 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+        return policies;
+    }
+
+    private static long endOfDay(String date) {
+        return LocalDate.parse(date).plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 현재 대기 중인 모든 신청서를 예약하고 정리 스레드를 데몬 스레드로 시작합니다.
+     */
+    public synchronized void start() {
+        if (sweeper != null) return;
+        for (Club club : clubManager.getAllClubs()) {
+            for (Member member : club.getPendingApplications()) {
+                track(club, member);
+            }
+        }
+        sweeper = new Thread(this::sweepLoop, "application-expiry");
+        sweeper.setDaemon(true);
+        sweeper.start();
+    }
+
+    /**
+     * 새로 제출된 신청서의 만료 시각을 예약합니다.
+     *
+     * @param club 신청한 동아리
+     * @param member 제출된 신청서
+     */
+    public void track(Club club, Member member) {
+        long expiresAt = getPolicy(club.getName()).expiresAt(member.getAppliedAt());
+        if (expiresAt == Long.MAX_VALUE) return;
+        Entry entry = new Entry(club.getName(), member.getName(), member.getAppliedAt());
+        TimingWheel.Timeout<Entry> previous = timeouts.put(key(entry), wheel.schedule(entry, expiresAt));
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+    }
+
+    /**
+     * 승인·거절된 신청서의 만료 예약을 취소합니다.
+     *
+     * @param club 신청한 동아리
+     * @param member 처리된 신청서
+     */
+    public void cancel(Club club, Member member) {
+        TimingWheel.Timeout<Entry> timeout = timeouts.remove(key(club.getName(), member.getName(), member.getAppliedAt()));
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    /**
+     * 동아리별 정책을 바꾸고, 그 동아리의 대기 중인 신청서를 새 정책으로 다시 예약합니다.
+     *
+     * @param clubName 동아리 이름
+     * @param policy 새 정책. null이면 동아리별 정책을 지우고 전체 정책을 사용합니다.
+     */
+    public void setPolicy(String clubName, Policy policy) {
+        if (policy == null) {
+            clubPolicies.remove(clubName);
+        } else {
+            clubPolicies.put(clubName, policy);
+        }
+        Club club = clubManager.getClub(clubName);
+        if (club == null) return;
+        for (Member member : club.getPendingApplications()) {
+            cancel(club, member);
+            track(club, member);
+        }
+    }
+
+    /**
+     * 동아리에 적용되는 정책을 반환합니다.
+     *
+     * @param clubName 동아리 이름
+     * @return 동아리별 정책, 없으면 전체 정책
+     */
+    public Policy getPolicy(String clubName) {
+        return clubPolicies.getOrDefault(clubName, globalPolicy);
+    }
+
+    /**
+     * 만료가 예약된 신청서 수를 반환합니다.
+     *
+     * @return 예약된 신청서 수
+     */
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    /**
+     * 지금까지 만료되어 제거된 신청서 수를 반환합니다.
+     *
+     * @return 만료된 신청서 수
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    private void sweepLoop() {
+        try {
+            while (true) {
+                Thread.sleep(TICK_MILLIS);
+                sweep(System.currentTimeMillis());
+            }
+        } catch (InterruptedException e) {
+            // 정리 종료
+        }
+    }
+
+    /**
+     * 주어진 시각까지 만료된 신청서를 동아리별로 모아 대기 목록에서 제거합니다.
+     *
+     * @param now 현재 시각(epoch ms)
+     * @return 제거된 신청서 수
+     */
+    int sweep(long now) {
+        List<Entry> due = wheel.advance(now);
+        int removed = 0;
+        for (int from = 0; from < due.size(); from += BATCH_SIZE) {
+            Map<String, Set<String>> byClub = new LinkedHashMap<>();
+            for (Entry entry : due.subList(from, Math.min(due.size(), from + BATCH_SIZE))) {
+                timeouts.remove(key(entry));
+                byClub.computeIfAbsent(entry.club, k -> new HashSet<>()).add(key(entry));
+            }
+            for (Map.Entry<String, Set<String>> clubEntry : byClub.entrySet()) {
+                removed += expire(clubEntry.getKey(), clubEntry.getValue());
+            }
+        }
+        if (removed > 0) {
+            expiredCount.addAndGet(removed);
+            System.out.println("[INFO] 기한이 지난 가입 신청 " + removed + "건을 만료 처리했습니다.");
+        }
+        return removed;
+    }
+
+    private int expire(String clubName, Set<String> keys) {
+        Club club = clubManager.getClub(clubName);
+        if (club == null) return 0; // 이미 삭제된 동아리
+        List<Member> expired = club.expireApplications(
+                member -> keys.contains(key(clubName, member.getName(), member.getAppliedAt())));
+        if (expired.isEmpty()) return 0;
+        clubManager.updateClub(club);
+        if (analytics != null) {
+            analytics.recordExpiry(clubName, expired.size());
+        }
+        if (outbox != null) {
+            for (Member member : expired) {
+                outbox.enqueue("만료", clubName, member.getName(),
+                        "'" + clubName + "' 동아리 가입 신청이 처리 기한이 지나 만료되었습니다.");
+            }
+        }
+        return expired.size();
+    }
+
+    private static String key(Entry entry) {
+        return key(entry.club, entry.applicant, entry.appliedAt);
+    }
+
+    private static String key(String club, String applicant, long appliedAt) {
+        return club + '\u0000' + applicant + '\u0000' + appliedAt;
+    }
+}
@@ -0,0 +1,278 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비동기 감사 로그
+ * <p>
+ * 관리자와 동아리 회장의 작업(동아리 추가·삭제, 가입 승인 등)을 누가, 어떤 역할로, 무엇에 대해, 언제 했는지 기록합니다.
+ * {@link #record(String, String, String, String, String)}는 잠금 없는 큐에 레코드를 넣기만 하고 바로 반환하므로
+ * GUI 작업의 응답 시간에 거의 영향을 주지 않습니다. 실제 파일 쓰기는 백그라운드 스레드가 모아서 처리합니다.
+ * </p>
+ *
+ * <p>
+ * 파일 구성:
+ * <ul>
+ *   <li>로그 디렉터리(기본값 "audit") 아래 "audit-000001.log" 형식의 세그먼트 파일에 기록합니다.</li>
+ *   <li>세그먼트가 설정한 크기를 넘으면 다음 번호의 세그먼트로 넘어가며, 압축을 켜면 닫힌 세그먼트를 ".gz"로 압축합니다.</li>
+ *   <li>각 줄은 "시각(epoch ms)\t아이디\t역할\t작업\t동아리\t상세" 형식이며, 탭·줄바꿈·역슬래시는 이스케이프합니다.</li>
+ * </ul>
+ * 기록된 로그는 {@link AuditQuery}로 조회합니다.
+ * </p>
+ *
+ * <p>
+ * 참고: 대기 중인 레코드가 {@link #MAX_PENDING}개를 넘으면 새 레코드는 버리고 개수만 셉니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class AuditLog {
+    static final String DEFAULT_DIRECTORY = "audit";
+    static final long DEFAULT_SEGMENT_BYTES = 1 << 20;
+    static final int MAX_PENDING = 100_000;
+    static final int BATCH_SIZE = 512;
+    static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    static final Pattern SEGMENT_PATTERN = Pattern.compile("audit-(\\d{6})\\.log(\\.gz)?");
+
+    private final File directory;
+    private final long segmentBytes;
+    private final boolean compress;
+    private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private int segment;
+    private long segmentSize;
+    private BufferedWriter out;
+
+    /**
+     * 감사 로그를 열고 백그라운드 기록 스레드를 시작합니다.
+     *
+     * @param directory 세그먼트 파일을 둘 디렉터리
+     * @param segmentBytes 세그먼트 하나의 최대 크기(바이트)
+     * @param compress 닫힌 세그먼트를 gzip으로 압축할지 여부
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public AuditLog(String directory, long segmentBytes, boolean compress) {
+        this.directory = new File(directory);
+        this.segmentBytes = segmentBytes;
+        this.compress = compress;
+        this.writer = new Thread(this::writeLoop, "audit-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 시스템 속성으로 설정한 감사 로그를 엽니다.
+     * <p>
+     * {@code club.audit.dir}(기본값 "audit"), {@code club.audit.segmentBytes}(기본값 1MB),
+     * {@code club.audit.compress}(기본값 false)를 사용합니다.
+     * </p>
+     *
+     * @return {@link AuditLog} 객체
+     */
+    static AuditLog fromSystemProperties() {
+        return new AuditLog(System.getProperty("club.audit.dir", DEFAULT_DIRECTORY),
+                Long.getLong("club.audit.segmentBytes", DEFAULT_SEGMENT_BYTES),
+                Boolean.getBoolean("club.audit.compress"));
+    }
+
+    /**
+     * 작업 기록을 큐에 넣습니다. 파일 쓰기를 기다리지 않고 바로 반환합니다.
+     *
+     * @param actor 작업한 사용자 아이디
+     * @param role 작업한 사용자의 역할
+     * @param action 작업 이름 (예: "동아리 추가", "가입 승인")
+     * @param club 대상 동아리 이름
+     * @param detail 추가 정보 (예: 승인한 신청자 이름). 없으면 null
+     */
+    public void record(String actor, String role, String action, String club, String detail) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (pending.incrementAndGet() > MAX_PENDING) {
+            pending.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.offer(System.currentTimeMillis() + "\t" + escape(actor) + "\t" + escape(role) + "\t"
+                + escape(action) + "\t" + escape(club) + "\t" + escape(detail));
+    }
+
+    /**
+     * 버려진 레코드 수를 반환합니다.
+     *
+     * @return 큐가 가득 차거나 닫힌 뒤 버려진 레코드 수
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * 남은 레코드를 모두 기록하고 감사 로그를 닫습니다.
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            String line;
+            while (batch.size() < BATCH_SIZE && (line = queue.poll()) != null) {
+                batch.add(line);
+            }
+            if (!batch.isEmpty()) {
+                pending.addAndGet(-batch.size());
+                write(batch);
+                batch.clear();
+                continue;
+            }
+            if (closed) {
+                closeSegment();
+                return;
+            }
+            LockSupport.parkNanos(IDLE_NANOS);
+        }
+    }
+
+    private void write(List<String> batch) {
+        try {
+            if (out == null) {
+                openSegment();
+            }
+            for (String line : batch) {
+                out.write(line);
+                out.write('\n');
+                segmentSize += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (segmentSize >= segmentBytes) {
+                    rotate();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            dropped.addAndGet(batch.size());
+            System.out.println("[ERROR] 감사 로그를 기록하는 중 오류가 발생했습니다: " + e.getMessage());
+            closeSegment();
+        }
+    }
+
+    /**
+     * 가장 최근의 압축되지 않은 세그먼트가 있으면 이어서 쓰고, 없으면 새 세그먼트를 만듭니다.
+     */
+    private void openSegment() throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("디렉터리를 만들 수 없습니다: " + directory);
+        }
+        int last = 0;
+        boolean lastCompressed = false;
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher matcher = SEGMENT_PATTERN.matcher(file.getName());
+                if (matcher.matches() && Integer.parseInt(matcher.group(1)) >= last) {
+                    last = Integer.parseInt(matcher.group(1));
+                    lastCompressed = matcher.group(2) != null;
+                }
+            }
+        }
+        File file = segmentFile(last);
+        if (last == 0 || lastCompressed || file.length() >= segmentBytes) {
+            last++;
+            file = segmentFile(last);
+        }
+        segment = last;
+        segmentSize = file.length();
+        out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+        out = null;
+        File closedSegment = segmentFile(segment);
+        segment++;
+        segmentSize = 0;
+        out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(segmentFile(segment), true), StandardCharsets.UTF_8));
+        if (compress) {
+            gzip(closedSegment);
+        }
+    }
+
+    private void closeSegment() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.out.println("[ERROR] 감사 로그를 닫는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        out = null;
+    }
+
+    private void gzip(File file) {
+        File target = new File(file.getPath() + ".gz");
+        File temp = new File(file.getPath() + ".gz.tmp");
+        try (InputStream in = new FileInputStream(file);
+             OutputStream gz = new GZIPOutputStream(new FileOutputStream(temp))) {
+            in.transferTo(gz);
+        } catch (IOException e) {
+            temp.delete();
+            System.out.println("[ERROR] 감사 로그 세그먼트를 압축하는 중 오류가 발생했습니다: " + e.getMessage());
+            return;
+        }
+        if (temp.renameTo(target)) {
+            file.delete();
+        }
+    }
+
+    private File segmentFile(int number) {
+        return new File(directory, String.format("audit-%06d.log", number));
+    }
+
+    static String escape(String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    static String unescape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,142 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 감사 로그 조회 도구
+ * <p>
+ * {@link AuditLog}가 남긴 세그먼트(압축·비압축 모두)를 번호 순서대로 읽어, 아이디나 동아리 이름으로 걸러 출력합니다.
+ * 각 줄을 나누기 전에 찾는 값이 들어 있는지 먼저 확인하므로, 조건에 맞지 않는 줄은 거의 비용 없이 건너뜁니다.
+ * </p>
+ *
+ * <p>
+ * 실행 예:
+ * <pre>
+ * java AuditQuery --actor=admin
+ * java AuditQuery --club=사진 동아리 --dir=audit
+ * </pre>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AuditQuery {
+
+    /**
+     * 감사 로그 레코드
+     */
+    static class Record {
+        final long timestamp;
+        final String actor;
+        final String role;
+        final String action;
+        final String club;
+        final String detail;
+
+        Record(long timestamp, String actor, String role, String action, String club, String detail) {
+            this.timestamp = timestamp;
+            this.actor = actor;
+            this.role = role;
+            this.action = action;
+            this.club = club;
+            this.detail = detail;
+        }
+    }
+
+    /**
+     * 조건에 맞는 레코드를 시간 순서대로 처리합니다.
+     *
+     * @param directory 세그먼트 파일이 있는 디렉터리
+     * @param actor 찾을 사용자 아이디. null이면 조건 없음
+     * @param club 찾을 동아리 이름. null이면 조건 없음
+     * @param action 조건에 맞는 각 레코드에 수행할 동작
+     * @throws IOException 세그먼트 파일을 읽는 중 오류가 발생한 경우
+     */
+    static void scan(String directory, String actor, String club, Consumer<Record> action) throws IOException {
+        String actorField = actor == null ? null : "\t" + AuditLog.escape(actor) + "\t";
+        String clubField = club == null ? null : "\t" + AuditLog.escape(club) + "\t";
+        for (File segment : segments(new File(directory))) {
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(open(segment), StandardCharsets.UTF_8), 1 << 16)) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    if (actorField != null && !line.contains(actorField)) continue;
+                    if (clubField != null && !line.contains(clubField)) continue;
+                    String[] parts = line.split("\t", -1);
+                    if (parts.length != 6) continue;
+                    Record record = new Record(Long.parseLong(parts[0]), AuditLog.unescape(parts[1]),
+                            AuditLog.unescape(parts[2]), AuditLog.unescape(parts[3]),
+                            AuditLog.unescape(parts[4]), AuditLog.unescape(parts[5]));
+                    if (actor != null && !actor.equals(record.actor)) continue;
+                    if (club != null && !club.equals(record.club)) continue;
+                    action.accept(record);
+                }
+            }
+        }
+    }
+
+    private static List<File> segments(File directory) {
+        // 같은 번호의 압축본과 원본이 함께 있으면(압축 도중 종료) 원본을 사용합니다.
+        TreeMap<Integer, File> segments = new TreeMap<>();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher matcher = AuditLog.SEGMENT_PATTERN.matcher(file.getName());
+                if (matcher.matches()) {
+                    int number = Integer.parseInt(matcher.group(1));
+                    if (matcher.group(2) == null || !segments.containsKey(number)) {
+                        segments.put(number, file);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(segments.values());
+    }
+
+    private static InputStream open(File segment) throws IOException {
+        InputStream in = new FileInputStream(segment);
+        return segment.getName().endsWith(".gz") ? new GZIPInputStream(in, 1 << 16) : in;
+    }
+
+    /**
+     * 감사 로그 조회 도구의 진입점입니다.
+     *
+     * @param args "--actor=아이디", "--club=동아리 이름", "--dir=디렉터리" 옵션
+     */
+    public static void main(String[] args) {
+        String directory = AuditLog.DEFAULT_DIRECTORY;
+        String actor = null;
+        String club = null;
+        for (String arg : args) {
+            if (arg.startsWith("--dir=")) directory = arg.substring(6);
+            else if (arg.startsWith("--actor=")) actor = arg.substring(8);
+            else if (arg.startsWith("--club=")) club = arg.substring(7);
+        }
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        int[] count = {0};
+        try {
+            scan(directory, actor, club, record -> {
+                count[0]++;
+                System.out.println(format.format(new Date(record.timestamp)) + "  " + record.actor + "(" + record.role + ")  "
+                        + record.action + "  " + record.club + (record.detail.isEmpty() ? "" : "  " + record.detail));
+            });
+        } catch (IOException e) {
+            System.out.println("[ERROR] 감사 로그를 읽을 수 없습니다: " + e.getMessage());
+            return;
+        }
+        System.out.println("[INFO] " + count[0] + "건");
+    }
+}
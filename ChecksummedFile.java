@@ -0,0 +1,490 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+/**
+ * 블록 단위 CRC32C 체크섬 파일 도구
+ * <p>
+ * 데이터 파일을 {@link #BLOCK_SIZE} 크기의 블록으로 나누어 블록마다 CRC32C 값을 구하고,
+ * 데이터 파일 옆의 체크섬 파일("파일 이름.crc")에 기록합니다. 데이터 파일 형식은 그대로이므로 편집기로 열어 고칠 수 있습니다.
+ * CRC32C 계산은 JVM이 CPU의 CRC 명령어로 처리하므로 디스크 읽기 속도와 비슷한 속도로 검사할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 파일 구성:
+ * <ul>
+ *   <li>"파일 이름.crc": 첫 줄은 "CRC32C 블록 크기 파일 길이", 이후 블록마다 16진수 체크섬 한 줄</li>
+ *   <li>"파일 이름.bak", "파일 이름.bak.crc": 직전에 정상으로 확인된 버전. 손상된 블록을 복구할 때 사용합니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 검사 결과:
+ * <ul>
+ *   <li>{@link Status#OK}: 모든 블록이 체크섬과 일치</li>
+ *   <li>{@link Status#UNSEALED}: 체크섬 파일이 없음 (이전 버전에서 만든 파일 등)</li>
+ *   <li>{@link Status#MODIFIED}: 체크섬 파일보다 나중에 수정됨. 사람이 직접 편집한 것으로 보고 다시 봉인합니다.</li>
+ *   <li>{@link Status#CORRUPT}: 수정 시각은 그대로인데 내용이 체크섬과 다름 (디스크 손상, 쓰다 만 파일 등)</li>
+ * </ul>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ChecksummedFile {
+    static final int BLOCK_SIZE = 64 * 1024;
+    static final String CHECKSUM_SUFFIX = ".crc";
+    static final String BACKUP_SUFFIX = ".bak";
+
+    private static final AtomicLong verifiedBytes = new AtomicLong();
+    private static final AtomicLong corruptBlocks = new AtomicLong();
+    private static final AtomicLong repairedBlocks = new AtomicLong();
+    private static final AtomicLong unrepairedFiles = new AtomicLong();
+
+    /**
+     * 검사 결과 상태
+     */
+    enum Status { OK, UNSEALED, MODIFIED, CORRUPT }
+
+    /**
+     * 검사 결과
+     */
+    static class Verification {
+        final Status status;
+        final List<Integer> badBlocks;
+
+        Verification(Status status, List<Integer> badBlocks) {
+            this.status = status;
+            this.badBlocks = badBlocks;
+        }
+    }
+
+    /**
+     * 블록 체크섬 목록
+     */
+    private static class Checksums {
+        final int blockSize;
+        final long length;
+        final long[] values;
+
+        Checksums(int blockSize, long length, long[] values) {
+            this.blockSize = blockSize;
+            this.length = length;
+            this.values = values;
+        }
+    }
+
+    private ChecksummedFile() {
+    }
+
+    /**
+     * 새로 쓴 임시 파일로 데이터 파일을 교체하고 체크섬을 기록합니다.
+     * <p>
+     * 순서: 임시 파일의 체크섬 계산 → 현재 파일이 정상이면 ".bak"으로 복사 →
+     * 데이터 파일의 체크섬 파일 삭제 → 임시 파일을 데이터 파일 자리로 한 번에 이동 → 체크섬 파일 이동.
+     * 데이터 파일은 이름 바꾸기 한 번으로 교체되므로 어느 순간에 종료되어도 이전 내용이나 새 내용 중 하나가 남고,
+     * 체크섬 파일이 없거나 데이터 파일보다 오래된 상태({@link Status#UNSEALED}, {@link Status#MODIFIED})가 되므로
+     * 잘못된 복구가 일어나지 않습니다.
+     * </p>
+     *
+     * @param target 데이터 파일
+     * @param temp 새 내용을 다 쓴 임시 파일
+     * @throws IOException 파일 이동이나 체크섬 기록 중 오류가 발생한 경우
+     */
+    static void replace(Path target, Path temp) throws IOException {
+        Path checksumTemp = sibling(target, CHECKSUM_SUFFIX + ".tmp");
+        writeChecksums(compute(temp, BLOCK_SIZE), checksumTemp);
+        if (Files.isRegularFile(target) && verify(target).status == Status.OK) {
+            Path backup = sibling(target, BACKUP_SUFFIX);
+            snapshot(target, backup);
+            snapshot(checksumFile(target), checksumFile(backup));
+        }
+        Files.deleteIfExists(checksumFile(target));
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(checksumTemp, checksumFile(target), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 파일을 다른 이름으로 복사해 둡니다. 원본은 건드리지 않습니다.
+     * 하드 링크는 편집기가 데이터 파일을 제자리에서 고칠 때 백업까지 바뀌므로 쓰지 않습니다.
+     * 임시 이름으로 복사한 뒤 이름을 바꾸므로 대상 파일이 반쯤 쓰인 상태로 남지 않습니다.
+     */
+    private static void snapshot(Path source, Path target) throws IOException {
+        Path temp = sibling(target, ".tmp");
+        Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 데이터 파일을 {@link #check(Path)}로 검사·복구한 뒤 데이터를 읽을 파일을 정합니다.
+     * <p>
+     * <ul>
+     *   <li>데이터 파일이 없고 ".bak"만 남아 있으면(예전 버전이 파일을 교체하던 도중 종료된 경우) ".bak"</li>
+     *   <li>복구하지 못한 손상이 있으면 손상된 파일을 읽지 않고, 손상되지 않은 ".bak" 전체</li>
+     *   <li>".bak"도 없거나 손상되었으면 손상된 데이터 파일 (읽을 수 있는 줄만 가져오도록 에러 메시지로 알림)</li>
+     *   <li>그 밖에는 데이터 파일</li>
+     * </ul>
+     * 데이터 파일 대신 ".bak"을 읽었다면 호출한 쪽에서 읽은 내용으로 데이터 파일을 다시 써야 합니다.
+     * 이때 {@link #replace(Path, Path)}는 손상된 파일을 ".bak"으로 옮기지 않으므로 백업은 그대로 남습니다.
+     * </p>
+     *
+     * @param file 데이터 파일
+     * @return 읽을 파일
+     */
+    static Path readable(Path file) {
+        Path backup = sibling(file, BACKUP_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            if (!Files.isRegularFile(backup)) return file;
+            System.out.println("[ERROR] " + file.getFileName() + " 파일이 없어 직전 정상 버전("
+                    + backup.getFileName() + ")을 읽습니다.");
+            return backup;
+        }
+        if (check(file)) return file;
+        if (Files.isRegularFile(backup) && !isCorrupt(backup)) {
+            System.out.println("[ERROR] " + file.getFileName() + " 파일 대신 직전 정상 버전(" + backup.getFileName()
+                    + ")을 읽습니다. 마지막 저장 이후의 변경은 반영되지 않습니다.");
+            return backup;
+        }
+        System.out.println("[ERROR] " + file.getFileName() + " 파일의 정상 백업이 없어 손상된 파일에서 읽을 수 있는 내용만 가져옵니다.");
+        return file;
+    }
+
+    private static boolean isCorrupt(Path file) {
+        try {
+            return verify(file).status == Status.CORRUPT;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 데이터 파일이나 그 ".bak" 파일이 있는지 반환합니다.
+     *
+     * @param file 데이터 파일
+     * @return 둘 중 하나라도 있으면 true
+     */
+    static boolean exists(Path file) {
+        return Files.isRegularFile(file) || Files.isRegularFile(sibling(file, BACKUP_SUFFIX));
+    }
+
+    /**
+     * 데이터 파일의 현재 내용으로 체크섬 파일을 새로 씁니다.
+     *
+     * @param file 데이터 파일
+     * @throws IOException 파일 읽기·쓰기 중 오류가 발생한 경우
+     */
+    static void seal(Path file) throws IOException {
+        Path checksumTemp = sibling(file, CHECKSUM_SUFFIX + ".tmp");
+        writeChecksums(compute(file, BLOCK_SIZE), checksumTemp);
+        Files.move(checksumTemp, checksumFile(file), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 데이터 파일과 체크섬 파일, 백업 파일을 모두 지웁니다.
+     *
+     * @param file 데이터 파일
+     */
+    static void delete(Path file) {
+        for (Path path : new Path[]{file, checksumFile(file), sibling(file, BACKUP_SUFFIX),
+                checksumFile(sibling(file, BACKUP_SUFFIX))}) {
+            path.toFile().delete();
+        }
+    }
+
+    /**
+     * 데이터 파일을 체크섬과 비교합니다.
+     *
+     * @param file 데이터 파일
+     * @return 검사 결과
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     */
+    static Verification verify(Path file) throws IOException {
+        return verify(file, 0);
+    }
+
+    /**
+     * 데이터 파일을 체크섬과 비교하되, 초당 읽는 양을 제한합니다. 백그라운드 검사에서 사용합니다.
+     *
+     * @param file 데이터 파일
+     * @param bytesPerSecond 초당 최대 읽기 바이트 수. 0 이하이면 제한 없음
+     * @return 검사 결과
+     * @throws IOException 파일을 읽는 중 오류가 발생한 경우
+     */
+    static Verification verify(Path file, long bytesPerSecond) throws IOException {
+        Path checksumFile = checksumFile(file);
+        if (!Files.isRegularFile(checksumFile)) {
+            return new Verification(Status.UNSEALED, List.of());
+        }
+        if (Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(checksumFile)) > 0) {
+            return new Verification(Status.MODIFIED, List.of());
+        }
+        Checksums expected = readChecksums(checksumFile);
+        if (expected == null) {
+            return new Verification(Status.UNSEALED, List.of());
+        }
+        Checksums actual = compute(file, expected.blockSize, bytesPerSecond);
+        List<Integer> badBlocks = new ArrayList<>();
+        int blocks = Math.max(expected.values.length, actual.values.length);
+        for (int i = 0; i < blocks; i++) {
+            if (i >= expected.values.length || i >= actual.values.length || expected.values[i] != actual.values[i]) {
+                badBlocks.add(i);
+            }
+        }
+        if (badBlocks.isEmpty() && expected.length == actual.length) {
+            return new Verification(Status.OK, List.of());
+        }
+        if (badBlocks.isEmpty()) {
+            badBlocks.add(blocks - 1); // 길이만 다른 경우 마지막 블록이 손상된 것으로 봅니다.
+        }
+        return new Verification(Status.CORRUPT, badBlocks);
+    }
+
+    /**
+     * 데이터 파일을 검사하고, 손상되었으면 보고한 뒤 ".bak"으로 블록 단위 복구를 시도합니다.
+     * <p>
+     * 체크섬 파일이 없거나 직접 편집된 파일은 현재 내용으로 다시 봉인합니다.
+     * 복구할 수 없으면 손상된 파일을 "파일 이름.corrupt"로 복사해 두고 false를 반환합니다.
+     * </p>
+     *
+     * @param file 데이터 파일
+     * @return 파일이 정상(또는 복구됨)이면 true, 복구하지 못한 손상이 있으면 false
+     */
+    static boolean check(Path file) {
+        if (!Files.isRegularFile(file)) return true;
+        try {
+            Verification verification = verify(file);
+            verifiedBytes.addAndGet(Files.size(file));
+            switch (verification.status) {
+                case OK:
+                    return true;
+                case UNSEALED:
+                case MODIFIED:
+                    seal(file);
+                    return true;
+                default:
+                    corruptBlocks.addAndGet(verification.badBlocks.size());
+                    System.out.println("[ERROR] " + file.getFileName() + " 파일의 블록 " + verification.badBlocks.size()
+                            + "개가 손상되었습니다: " + verification.badBlocks);
+                    if (repairFromBackup(file, verification.badBlocks)) {
+                        repairedBlocks.addAndGet(verification.badBlocks.size());
+                        System.out.println("[INFO] " + file.getFileName() + " 파일을 백업에서 복구했습니다.");
+                        return true;
+                    }
+                    unrepairedFiles.incrementAndGet();
+                    Files.copy(file, sibling(file, ".corrupt"), StandardCopyOption.REPLACE_EXISTING);
+                    System.out.println("[ERROR] " + file.getFileName() + " 파일을 복구할 수 없습니다. 원본은 "
+                            + sibling(file, ".corrupt").getFileName() + "에 보관했습니다.");
+                    return false;
+            }
+        } catch (IOException e) {
+            System.out.println("[ERROR] " + file.getFileName() + " 파일을 검사하는 중 오류가 발생했습니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 손상된 블록을 백업 파일의 같은 위치 블록으로 덮어씁니다.
+     * <p>
+     * 백업 파일의 해당 블록이 현재 파일의 기대 체크섬과 일치할 때만(그 블록이 두 버전에서 같을 때만) 복사하며,
+     * 모든 손상 블록을 복구할 수 있을 때만 파일을 바꿉니다.
+     * </p>
+     */
+    private static boolean repairFromBackup(Path file, List<Integer> badBlocks) throws IOException {
+        Path backup = sibling(file, BACKUP_SUFFIX);
+        Checksums expected = readChecksums(checksumFile(file));
+        if (expected == null || !Files.isRegularFile(backup)) return false;
+        Checksums backupActual = compute(backup, expected.blockSize);
+        for (int block : badBlocks) {
+            if (block >= expected.values.length || block >= backupActual.values.length
+                    || backupActual.values[block] != expected.values[block]) {
+                return false;
+            }
+        }
+
+        Path temp = sibling(file, ".repair");
+        Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+        try (FileChannel source = FileChannel.open(backup, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(expected.blockSize);
+            for (int block : badBlocks) {
+                long position = (long) block * expected.blockSize;
+                buffer.clear();
+                int read;
+                do {
+                    read = source.read(buffer, position + buffer.position());
+                } while (read > 0 && buffer.hasRemaining());
+                buffer.flip();
+                target.write(buffer, position);
+            }
+            target.truncate(expected.length);
+        }
+        Checksums repaired = compute(temp, expected.blockSize);
+        if (repaired.length != expected.length || !Arrays.equals(repaired.values, expected.values)) {
+            Files.deleteIfExists(temp);
+            return false;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        seal(file); // 복구로 바뀐 수정 시각에 맞춰 다시 봉인
+        return true;
+    }
+
+    /**
+     * 지금까지 검사한 바이트 수를 반환합니다.
+     *
+     * @return 검사한 바이트 수
+     */
+    static long getVerifiedBytes() {
+        return verifiedBytes.get();
+    }
+
+    /**
+     * 지금까지 발견한 손상 블록 수를 반환합니다.
+     *
+     * @return 손상 블록 수
+     */
+    static long getCorruptBlocks() {
+        return corruptBlocks.get();
+    }
+
+    /**
+     * 지금까지 복구한 블록 수를 반환합니다. 메모리의 데이터로 파일 전체를 다시 쓴 경우도 포함합니다.
+     *
+     * @return 복구한 블록 수
+     */
+    static long getRepairedBlocks() {
+        return repairedBlocks.get();
+    }
+
+    /**
+     * 복구하지 못한 파일 수를 반환합니다.
+     *
+     * @return 복구하지 못한 파일 수
+     */
+    static long getUnrepairedFiles() {
+        return unrepairedFiles.get();
+    }
+
+    static void recordVerified(long bytes) {
+        verifiedBytes.addAndGet(bytes);
+    }
+
+    static void recordCorruption(int blocks, boolean repaired) {
+        corruptBlocks.addAndGet(blocks);
+        if (repaired) {
+            repairedBlocks.addAndGet(blocks);
+        } else {
+            unrepairedFiles.incrementAndGet();
+        }
+    }
+
+    /**
+     * 백업 파일로 블록 단위 복구를 시도합니다. 백그라운드 검사에서 사용합니다.
+     *
+     * @param file 데이터 파일
+     * @param badBlocks 손상된 블록 번호
+     * @return 복구했으면 true
+     */
+    static boolean repair(Path file, List<Integer> badBlocks) {
+        try {
+            return repairFromBackup(file, badBlocks);
+        } catch (IOException e) {
+            System.out.println("[ERROR] " + file.getFileName() + " 파일을 복구하는 중 오류가 발생했습니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    static Path checksumFile(Path file) {
+        return sibling(file, CHECKSUM_SUFFIX);
+    }
+
+    private static Path sibling(Path file, String suffix) {
+        return Paths.get(file.toString() + suffix);
+    }
+
+    private static Checksums compute(Path file, int blockSize) throws IOException {
+        return compute(file, blockSize, 0);
+    }
+
+    private static Checksums compute(Path file, int blockSize, long bytesPerSecond) throws IOException {
+        List<Long> values = new ArrayList<>();
+        long length = 0;
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(blockSize);
+            CRC32C crc = new CRC32C();
+            while (true) {
+                buffer.clear();
+                int read;
+                while (buffer.hasRemaining() && (read = channel.read(buffer)) > 0) {
+                    length += read;
+                }
+                if (buffer.position() == 0) break;
+                buffer.flip();
+                crc.reset();
+                crc.update(buffer);
+                values.add(crc.getValue());
+                if (bytesPerSecond > 0) {
+                    throttle(start, length, bytesPerSecond);
+                }
+            }
+        }
+        long[] result = new long[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return new Checksums(blockSize, length, result);
+    }
+
+    private static void throttle(long startNanos, long bytes, long bytesPerSecond) {
+        long aheadNanos = bytes * 1_000_000_000L / bytesPerSecond - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            try {
+                Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void writeChecksums(Checksums checksums, Path target) throws IOException {
+        try (BufferedWriter bw = Files.newBufferedWriter(target, StandardCharsets.US_ASCII)) {
+            bw.write("CRC32C " + checksums.blockSize + " " + checksums.length);
+            bw.write('\n');
+            for (long value : checksums.values) {
+                bw.write(String.format("%08x", value));
+                bw.write('\n');
+            }
+        }
+    }
+
+    private static Checksums readChecksums(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.US_ASCII);
+        if (lines.isEmpty()) return null;
+        String[] header = lines.get(0).split(" ");
+        if (header.length != 3 || !header[0].equals("CRC32C")) return null;
+        try {
+            int blockSize = Integer.parseInt(header[1]);
+            long length = Long.parseLong(header[2]);
+            long[] values = new long[lines.size() - 1];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Long.parseLong(lines.get(i + 1).trim(), 16);
+            }
+            return new Checksums(blockSize, length, values);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
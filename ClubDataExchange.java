@@ -0,0 +1,537 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 동아리·가입 신청 데이터 내보내기/가져오기 도구
+ * <p>
+ * 모든 동아리와 대기 중인 가입 신청서를 JSON Lines 또는 CSV 형식으로 내보내고 다시 가져옵니다.
+ * 내보낼 때는 {@link ClubManager#forEachClub(java.util.function.Consumer)}로 동아리를 하나씩 쓰고,
+ * 가져올 때는 레코드를 한 줄(한 행)씩 읽어 바로 반영하므로, 도구 자체가 쓰는 메모리는 데이터 양과 관계없이 일정합니다.
+ * 파일 이름이 ".gz"로 끝나면 gzip으로 바로 압축하거나 압축을 풀며 읽습니다.
+ * </p>
+ *
+ * <p>
+ * 레코드 형식:
+ * <ul>
+ *   <li>JSON Lines: {@code {"type":"club","name":..,"president":..,"description":..,"capacity":..,"members":..}},
+ *       {@code {"type":"application","club":..,"applicant":..,"text":..,"appliedAt":..,"priority":..,"score":..}}</li>
+ *   <li>CSV: 첫 줄은 "{@value #CSV_HEADER}"이며, 쉼표·큰따옴표·줄바꿈이 들어간 값은 큰따옴표로 감쌉니다(RFC 4180).</li>
+ *   <li>정원·회원 수·우선 선발·점수 필드가 없는 예전 파일도 가져올 수 있으며, 없는 값은 0(false)으로 봅니다.</li>
+ *   <li>가입 신청 레코드는 해당 동아리 레코드 바로 뒤에 이어서 기록합니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 실행 예:
+ * <pre>
+ * java ClubDataExchange export clubs.jsonl.gz
+ * java ClubDataExchange import clubs.csv --format=csv
+ * </pre>
+ * 저장소는 {@code club.repository} 시스템 속성으로 선택하며, 기본값은 "text"입니다.
+ * 텍스트 파일 저장소는 가입 신청서를 보관하지 않으므로, 신청서까지 옮기려면 "jdbc" 저장소를 사용해야 합니다.
+ * 신청서를 보관하지 않는 저장소에서는 내보내기 전에 알리고, 가져올 때는 신청 레코드를 반영하지 않고 그 수를 알립니다.
+ * </p>
+ *
+ * <p>
+ * 참고: 승인된 회원 명단은 현재 어떤 저장소에도 보관되지 않으므로 내보내기 대상이 아닙니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ClubDataExchange {
+    static final int BUFFER_SIZE = 1 << 16;
+    static final String CSV_HEADER = "type,club,president,description,applicant,text,applied_at,capacity,members,priority,score";
+
+    /**
+     * 내보내기/가져오기 파일 형식
+     */
+    enum Format {
+        JSONL, CSV;
+
+        /**
+         * 파일 이름의 확장자(".gz" 제외)로 형식을 정합니다. ".csv"가 아니면 JSON Lines로 봅니다.
+         *
+         * @param fileName 파일 이름
+         * @return 파일 형식
+         */
+        static Format of(String fileName) {
+            String name = fileName.toLowerCase();
+            if (name.endsWith(".gz")) name = name.substring(0, name.length() - 3);
+            return name.endsWith(".csv") ? CSV : JSONL;
+        }
+    }
+
+    /**
+     * 가져오기 레코드. 동아리 레코드는 club, president, description, capacity, members를,
+     * 가입 신청 레코드는 club, applicant, text, appliedAt, priority, score를 사용합니다.
+     */
+    static class Record {
+        String type;
+        String club;
+        String president;
+        String description;
+        String applicant;
+        String text;
+        long appliedAt;
+        int capacity;
+        int members;
+        boolean priority;
+        int score;
+    }
+
+    /**
+     * 모든 동아리와 가입 신청서를 파일로 내보냅니다.
+     *
+     * @param clubManager 내보낼 {@link ClubManager}
+     * @param file 내보낼 파일. 이름이 ".gz"로 끝나면 gzip으로 압축합니다.
+     * @param format 파일 형식
+     * @return 기록한 동아리 수와 가입 신청 수 ({long[]{동아리, 신청}})
+     * @throws IOException 파일 쓰기 중 오류가 발생한 경우
+     */
+    static long[] exportTo(ClubManager clubManager, File file, Format format) throws IOException {
+        long[] counts = new long[2];
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(open(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            StringBuilder line = new StringBuilder(256);
+            if (format == Format.CSV) {
+                out.write(CSV_HEADER);
+                out.write('\n');
+            }
+            try {
+                clubManager.forEachClub(club -> {
+                    try {
+                        line.setLength(0);
+                        if (format == Format.CSV) {
+                            csvRow(line, "club", club.getName(), club.getPresident(), club.getDescription(), "", "", "",
+                                    Integer.toString(club.getCapacity()), Integer.toString(club.getMemberCount()), "", "");
+                        } else {
+                            line.append("{\"type\":\"club\",\"name\":");
+                            jsonString(line, club.getName()).append(",\"president\":");
+                            jsonString(line, club.getPresident()).append(",\"description\":");
+                            jsonString(line, club.getDescription()).append(",\"capacity\":").append(club.getCapacity())
+                                    .append(",\"members\":").append(club.getMemberCount()).append("}\n");
+                        }
+                        out.append(line);
+                        counts[0]++;
+                        for (Member member : club.getPendingApplications()) {
+                            line.setLength(0);
+                            if (format == Format.CSV) {
+                                csvRow(line, "application", club.getName(), "", "", member.getName(),
+                                        member.getApplicationText(), Long.toString(member.getAppliedAt()), "", "",
+                                        Boolean.toString(member.isPriority()), Integer.toString(member.getScore()));
+                            } else {
+                                line.append("{\"type\":\"application\",\"club\":");
+                                jsonString(line, club.getName()).append(",\"applicant\":");
+                                jsonString(line, member.getName()).append(",\"text\":");
+                                jsonString(line, member.getApplicationText()).append(",\"appliedAt\":")
+                                        .append(member.getAppliedAt()).append(",\"priority\":").append(member.isPriority())
+                                        .append(",\"score\":").append(member.getScore()).append("}\n");
+                            }
+                            out.append(line);
+                            counts[1]++;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 파일에서 동아리와 가입 신청서를 가져와 {@link ClubManager}에 반영합니다.
+     * <p>
+     * 같은 이름의 동아리가 이미 있으면 파일의 내용으로 교체합니다.
+     * 형식이 잘못된 레코드는 건너뛰고 개수만 셉니다. 가져오기가 끝나면 {@link ClubManager#save()}를 호출합니다.
+     * 저장소가 가입 신청서를 보관하지 않으면({@link ClubManager#persistsApplications()}) 신청 레코드는 반영하지 않고
+     * 개수만 따로 셉니다.
+     * </p>
+     *
+     * @param clubManager 가져온 데이터를 반영할 {@link ClubManager}
+     * @param file 가져올 파일. 이름이 ".gz"로 끝나면 압축을 풀며 읽습니다.
+     * @param format 파일 형식
+     * @return 가져온 동아리 수, 가입 신청 수, 건너뛴 레코드 수, 저장소가 보관하지 않아 반영하지 않은 신청 수
+     *         ({long[]{동아리, 신청, 건너뜀, 미반영 신청}})
+     * @throws IOException 파일 읽기 중 오류가 발생한 경우
+     */
+    static long[] importFrom(ClubManager clubManager, File file, Format format) throws IOException {
+        long[] counts = new long[4];
+        boolean withApplications = clubManager.persistsApplications();
+        try (Reader in = new BufferedReader(new InputStreamReader(openInput(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            RecordReader reader = format == Format.CSV ? new CsvRecordReader(in) : new JsonLinesRecordReader(in);
+            Club current = null;
+            Record record;
+            while ((record = reader.next()) != null) {
+                if ("club".equals(record.type) && record.club != null && record.president != null) {
+                    if (current != null) clubManager.addClub(current);
+                    current = new Club(record.club, record.president, record.description == null ? "" : record.description,
+                            record.capacity, record.members);
+                    counts[0]++;
+                } else if ("application".equals(record.type) && record.club != null && record.applicant != null) {
+                    if (!withApplications) {
+                        counts[3]++;
+                        continue;
+                    }
+                    Member member = new Member(record.applicant, record.text == null ? "" : record.text, record.appliedAt,
+                            record.priority, record.score);
+                    if (current != null && current.getName().equals(record.club)) {
+                        current.addPendingApplication(member);
+                    } else {
+                        // 동아리 레코드와 떨어져 있는 신청서는 이미 반영된 동아리에 추가합니다.
+                        Club club = clubManager.getClub(record.club);
+                        if (club == null) {
+                            counts[2]++;
+                            continue;
+                        }
+                        club.addPendingApplication(member);
+                        clubManager.updateClub(club);
+                    }
+                    counts[1]++;
+                } else {
+                    counts[2]++;
+                }
+            }
+            if (current != null) clubManager.addClub(current);
+        }
+        clubManager.save();
+        return counts;
+    }
+
+    private static OutputStream open(File file) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        if (!file.getName().endsWith(".gz")) return out;
+        // 압축률보다 속도를 우선하여 디스크 쓰기 속도에 맞춥니다.
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        };
+    }
+
+    private static InputStream openInput(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        return file.getName().endsWith(".gz") ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    private static StringBuilder jsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"');
+    }
+
+    /**
+     * 정수 필드를 읽습니다. 값이 없으면 0을 반환합니다.
+     *
+     * @throws NumberFormatException 정수가 아닌 경우
+     */
+    private static int intField(String value) {
+        return value == null || value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    private static void csvRow(StringBuilder sb, String... fields) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) sb.append(',');
+            String field = fields[i];
+            boolean quote = false;
+            for (int j = 0; j < field.length() && !quote; j++) {
+                char c = field.charAt(j);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (quote) {
+                sb.append('"').append(field.replace("\"", "\"\"")).append('"');
+            } else {
+                sb.append(field);
+            }
+        }
+        sb.append('\n');
+    }
+
+    /**
+     * 파일에서 레코드를 하나씩 읽는 인터페이스
+     */
+    private interface RecordReader {
+        /**
+         * 다음 레코드를 읽습니다.
+         *
+         * @return 다음 레코드, 파일 끝이면 null
+         * @throws IOException 읽기 오류가 발생한 경우
+         */
+        Record next() throws IOException;
+    }
+
+    /**
+     * JSON Lines 레코드 읽기. 문자열과 숫자 값만 있는 한 단계짜리 객체를 읽습니다.
+     */
+    private static class JsonLinesRecordReader implements RecordReader {
+        private final BufferedReader in;
+        private final Map<String, String> fields = new HashMap<>();
+
+        JsonLinesRecordReader(Reader in) {
+            this.in = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        }
+
+        @Override
+        public Record next() throws IOException {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                Record record = new Record();
+                fields.clear();
+                try {
+                    parse(line);
+                    record.type = fields.get("type");
+                    record.club = fields.get("club") != null ? fields.get("club") : fields.get("name");
+                    record.president = fields.get("president");
+                    record.description = fields.get("description");
+                    record.applicant = fields.get("applicant");
+                    record.text = fields.get("text");
+                    String appliedAt = fields.get("appliedAt");
+                    record.appliedAt = appliedAt == null ? System.currentTimeMillis() : Long.parseLong(appliedAt);
+                    record.capacity = intField(fields.get("capacity"));
+                    record.members = intField(fields.get("members"));
+                    record.priority = Boolean.parseBoolean(fields.get("priority"));
+                    record.score = intField(fields.get("score"));
+                } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                    record.type = null; // 형식이 잘못된 줄
+                }
+                return record;
+            }
+            return null;
+        }
+
+        private void parse(String line) {
+            int[] pos = {skip(line, 0)};
+            expect(line, pos, '{');
+            if (line.charAt(skipAt(line, pos)) == '}') return;
+            while (true) {
+                skipAt(line, pos);
+                String key = string(line, pos);
+                skipAt(line, pos);
+                expect(line, pos, ':');
+                skipAt(line, pos);
+                String value;
+                if (line.charAt(pos[0]) == '"') {
+                    value = string(line, pos);
+                } else {
+                    int start = pos[0];
+                    while (pos[0] < line.length() && ",} \t".indexOf(line.charAt(pos[0])) < 0) pos[0]++;
+                    value = line.substring(start, pos[0]);
+                    if (value.equals("null")) value = null;
+                }
+                fields.put(key, value);
+                skipAt(line, pos);
+                char c = line.charAt(pos[0]++);
+                if (c == '}') return;
+                if (c != ',') throw new IllegalArgumentException("',' 또는 '}'가 필요합니다.");
+            }
+        }
+
+        private static String string(String line, int[] pos) {
+            expect(line, pos, '"');
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                char c = line.charAt(pos[0]++);
+                if (c == '"') return sb.toString();
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char e = line.charAt(pos[0]++);
+                switch (e) {
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        sb.append((char) Integer.parseInt(line.substring(pos[0], pos[0] + 4), 16));
+                        pos[0] += 4;
+                        break;
+                    default: sb.append(e); // '"', '\\', '/'
+                }
+            }
+        }
+
+        private static void expect(String line, int[] pos, char c) {
+            if (line.charAt(pos[0]++) != c) throw new IllegalArgumentException("'" + c + "'가 필요합니다.");
+        }
+
+        private static int skipAt(String line, int[] pos) {
+            pos[0] = skip(line, pos[0]);
+            return pos[0];
+        }
+
+        private static int skip(String line, int pos) {
+            while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) pos++;
+            return pos;
+        }
+    }
+
+    /**
+     * CSV 레코드 읽기. 큰따옴표로 감싼 값 안의 쉼표와 줄바꿈을 처리합니다.
+     */
+    private static class CsvRecordReader implements RecordReader {
+        private final Reader in;
+        private final List<String> row = new ArrayList<>();
+        private final StringBuilder field = new StringBuilder();
+        private boolean headerSkipped;
+
+        CsvRecordReader(Reader in) {
+            this.in = in;
+        }
+
+        @Override
+        public Record next() throws IOException {
+            while (readRow()) {
+                if (!headerSkipped) {
+                    headerSkipped = true;
+                    if (!row.isEmpty() && row.get(0).equals("type")) continue;
+                }
+                if (row.size() == 1 && row.get(0).isEmpty()) continue; // 빈 줄
+                Record record = new Record();
+                if (row.size() >= 7) {
+                    record.type = row.get(0);
+                    record.club = row.get(1);
+                    record.president = row.get(2);
+                    record.description = row.get(3);
+                    record.applicant = row.get(4);
+                    record.text = row.get(5);
+                    try {
+                        record.appliedAt = row.get(6).isEmpty() ? System.currentTimeMillis() : Long.parseLong(row.get(6));
+                        if (row.size() >= 11) {
+                            record.capacity = intField(row.get(7));
+                            record.members = intField(row.get(8));
+                            record.priority = Boolean.parseBoolean(row.get(9));
+                            record.score = intField(row.get(10));
+                        }
+                    } catch (NumberFormatException e) {
+                        record.type = null;
+                    }
+                }
+                return record;
+            }
+            return null;
+        }
+
+        /**
+         * 한 행을 읽어 {@link #row}에 채웁니다.
+         *
+         * @return 읽은 행이 있으면 true, 파일 끝이면 false
+         */
+        private boolean readRow() throws IOException {
+            row.clear();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = in.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        in.mark(1);
+                        int next = in.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) in.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    row.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) return false;
+            row.add(field.toString());
+            return true;
+        }
+    }
+
+    /**
+     * 내보내기/가져오기 도구의 진입점입니다.
+     *
+     * @param args "export 파일" 또는 "import 파일", 선택적으로 "--format=jsonl|csv"
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || !(args[0].equals("export") || args[0].equals("import"))) {
+            System.out.println("사용법: java ClubDataExchange export|import <파일> [--format=jsonl|csv]");
+            return;
+        }
+        File file = new File(args[1]);
+        Format format = Format.of(args[1]);
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--format=")) format = Format.valueOf(args[i].substring(9).toUpperCase());
+        }
+
+        ClubManager clubManager = new ClubManager(ClubRepository.create(System.getProperty("club.repository", "text")));
+        long start = System.nanoTime();
+        try {
+            if (args[0].equals("export")) {
+                if (!clubManager.persistsApplications()) {
+                    System.out.println("[ERROR] 현재 저장소는 가입 신청서를 보관하지 않으므로 동아리 정보만 내보냅니다. "
+                            + "신청서까지 내보내려면 -Dclub.repository=jdbc를 사용하세요.");
+                }
+                long[] counts = exportTo(clubManager, file, format);
+                System.out.printf("[INFO] 동아리 %d개, 가입 신청 %d건을 내보냈습니다. (%.1f초)%n",
+                        counts[0], counts[1], (System.nanoTime() - start) / 1e9);
+            } else {
+                long[] counts = importFrom(clubManager, file, format);
+                System.out.printf("[INFO] 동아리 %d개, 가입 신청 %d건을 가져왔습니다. 건너뛴 레코드 %d건 (%.1f초)%n",
+                        counts[0], counts[1], counts[2], (System.nanoTime() - start) / 1e9);
+                if (counts[3] > 0) {
+                    System.out.println("[ERROR] 현재 저장소는 가입 신청서를 보관하지 않으므로 신청 " + counts[3]
+                            + "건은 가져오지 않았습니다. 신청서까지 가져오려면 -Dclub.repository=jdbc를 사용하세요.");
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[ERROR] " + file + " 파일을 처리하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+}
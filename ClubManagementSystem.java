@@ -4,6 +4,9 @@ import java.awt.*;
 import java.io.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 /**
  * 청주대학교 동아리 관리 시스템
  * <p>
@@ -15,23 +18,49 @@ import java.util.List;
  * @since 2024-12-18
  */
 public class ClubManagementSystem {
+    static final String USERS_FILE = "users.txt";
+
     private ClubManager clubManager;
     /**
      * 청주대학교 동아리 관리 시스템을 초기화합니다.
      * <p>
-     * 파일에서 동아리 데이터를 로드하고 GUI를 시작합니다.
+     * 저장소에서 동아리 데이터를 로드하고 GUI를 시작합니다.
+     * 저장소 종류는 {@code club.repository} 시스템 속성("text", "memory", "sharded", "jdbc")으로 선택하며,
+     * 기본값은 "clubs_data.txt" 텍스트 파일입니다.
+     * 실행 중 "users.txt"와 (텍스트 파일 저장소인 경우) "clubs_data.txt"의 변경 사항은
+     * {@link DataFileWatcher}가 감지하여 재시작 없이 반영합니다.
+     * 관리자와 동아리 회장의 작업은 {@link AuditLog}에 기록되며,
+     * 가입 승인·거절 알림은 {@link NotificationOutbox}를 통해 학생에게 전달되며,
+     * 처리 기한이 지난 가입 신청은 {@link ApplicationExpiry}가 자동으로 만료시킵니다.
      * </p>
      *
      * @created 2024-12-18
-     * @lastModified 2024-12-19
+     * @lastModified 2026-10-18
      *
      */
 
     public ClubManagementSystem() {
-        this.clubManager = new ClubManager();
         loadUsersFromFile(); // 사용자 정보 로드
-        loadClubsFromFile();
-        new ClubManagementSystemGUI(clubManager, users, roles).showMainMenu(); // 로그인 화면 표시
+        ClubRepository repository = ClubRepository.create(System.getProperty("club.repository", "text"));
+        this.clubManager = new ClubManager(repository);
+        new DataFileWatcher(clubManager, users, roles,
+                repository instanceof TextFileClubRepository ? TextFileClubRepository.DEFAULT_FILE : null,
+                USERS_FILE).start();
+        IntegrityScrubber.fromSystemProperties(repository).start(); // 데이터 파일 주기적 무결성 검사
+        AuditLog auditLog = AuditLog.fromSystemProperties();
+        Runtime.getRuntime().addShutdownHook(new Thread(auditLog::close)); // 종료 시 남은 감사 기록 저장
+        NotificationOutbox outbox = NotificationOutbox.fromSystemProperties();
+        outbox.start(); // 승인·거절 알림 전달 시작
+        RecruitmentAnalytics analytics = RecruitmentAnalytics.fromSystemProperties();
+        analytics.countPending(clubManager);
+        analytics.start(); // 누적 통계 주기적 저장
+        Runtime.getRuntime().addShutdownHook(new Thread(analytics::save)); // 종료 시 누적 통계 저장
+        ApplicationExpiry expiry = ApplicationExpiry.fromSystemProperties(clubManager, outbox, analytics);
+        expiry.start(); // 오래된 가입 신청 만료 시작
+        AdmissionScheduler admission = AdmissionScheduler.fromSystemProperties(clubManager, expiry, analytics, outbox,
+                auditLog);
+        new ClubManagementSystemGUI(clubManager, users, roles, auditLog, outbox, expiry, analytics, admission,
+                SemesterArchive.fromSystemProperties()).showMainMenu(); // 로그인 화면 표시
     }
     /**
      * 프로그램의 메인 진입점입니다.
@@ -46,49 +75,39 @@ public class ClubManagementSystem {
         new ClubManagementSystem();
     }
 
+    private Map<String, String> users = new ConcurrentHashMap<>(); // 아이디-비밀번호 저장
+    private Map<String, String> roles = new ConcurrentHashMap<>(); // 아이디-역할 저장
+
     /**
-     * 파일에서 동아리 데이터를 읽어옵니다.
+     * 파일에서 사용자 정보를 로드합니다.
      * <p>
-     * 동아리 데이터는 "src/clubs_data.txt" 파일에서 ,(컴마)를 기준으로 로드되며,
-     * 각 라인은 "동아리 이름,회장 이름,소개" 형식으로 작성되어야 합니다.
-     * 파일이 없거나 읽기에 실패할 경우 에러 메시지를 출력합니다.
+     * 파일 포맷: 아이디,비밀번호,역할
+     * 예: admin,admin123,관리자
      * </p>
      *
-     * @created 2024-12-18
-     * @lastModified 2024-12-21
+     * @created 2024-12-23
+     * @lastModified 2026-10-18
      */
-    private void loadClubsFromFile() {
-        String fileName = "clubs_data.txt";
-        try (BufferedReader br = new BufferedReader(new FileReader(fileName))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length >= 3) {
-                    String name = parts[0].trim();
-                    String president = parts[1].trim();
-                    String description = parts[2].trim();
-                    clubManager.addClub(new Club(name, president, description));
-                }
-            }
-        } catch (IOException e) {
-            System.out.println("[INFO] 초기 동아리 데이터를 로드할 수 없습니다: " + e.getMessage());
+    private void loadUsersFromFile() {
+        for (Map.Entry<String, String[]> entry : readUsers(USERS_FILE).entrySet()) {
+            users.put(entry.getKey(), entry.getValue()[0]);
+            roles.put(entry.getKey(), entry.getValue()[1]);
         }
     }
 
-    private Map<String, String> users = new HashMap<>(); // 아이디-비밀번호 저장
-    private Map<String, String> roles = new HashMap<>(); // 아이디-역할 저장
-
     /**
-     * 파일에서 사용자 정보를 로드합니다.
+     * 사용자 정보 파일을 읽어 아이디별 {비밀번호, 역할} 배열로 반환합니다.
      * <p>
-     * 파일 포맷: 아이디,비밀번호,역할
-     * 예: admin,admin123,관리자
+     * 형식이 맞지 않는 줄은 건너뛰며, 읽기에 실패하면 에러 메시지를 출력하고 읽은 데까지 반환합니다.
      * </p>
      *
-     * @created 2024-12-23
+     * @param fileName 사용자 정보 파일 경로
+     * @return 아이디를 키로 하는 {비밀번호, 역할} 맵
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
      */
-    private void loadUsersFromFile() {
-        String fileName = "users.txt"; // 사용자 정보 파일 경로
+    static Map<String, String[]> readUsers(String fileName) {
+        Map<String, String[]> result = new LinkedHashMap<>();
         try (BufferedReader br = new BufferedReader(new FileReader(fileName))) {
             String line;
             while ((line = br.readLine()) != null) {
@@ -97,13 +116,13 @@ public class ClubManagementSystem {
                     String id = parts[0].trim();
                     String password = parts[1].trim();
                     String role = parts[2].trim();
-                    users.put(id, password);
-                    roles.put(id, role);
+                    result.put(id, new String[]{password, role});
                 }
             }
         } catch (IOException e) {
             System.out.println("[ERROR] 사용자 데이터를 로드할 수 없습니다: " + e.getMessage());
         }
+        return result;
     }
 }
 
@@ -132,6 +151,15 @@ class ClubManagementSystemGUI {
     private Map<String, String> roles; // 사용자 ID와 역할 저장
 
     private ClubManager clubManager;
+    private AuditLog auditLog;
+    private NotificationOutbox outbox;
+    private ApplicationExpiry expiry;
+    private RecruitmentAnalytics analytics;
+    private AdmissionScheduler admission;
+    private SemesterArchive archive;
+
+    private String currentUserId; // 로그인한 사용자 아이디
+    private String currentRole; // 로그인한 사용자 역할
 
     /**
      * {@link ClubManagementSystemGUI} 생성자.
@@ -140,13 +168,28 @@ class ClubManagementSystemGUI {
      * </p>
      *
      * @param clubManager 동아리 데이터를 관리하는 {@link ClubManager} 인스턴스
+     * @param auditLog 관리자·회장 작업을 기록할 {@link AuditLog}
+     * @param outbox 가입 승인·거절 알림을 보낼 {@link NotificationOutbox}
+     * @param expiry 가입 신청 처리 기한을 관리할 {@link ApplicationExpiry}
+     * @param analytics 신청·승인·거절을 집계할 {@link RecruitmentAnalytics}
+     * @param admission 정원이 있는 동아리의 자동 선발을 맡을 {@link AdmissionScheduler}
+     * @param archive 지난 학기 동아리를 옮길 {@link SemesterArchive}
      * @created 2024-12-19
-     * @lastModified 2024-12-19
+     * @lastModified 2026-10-18
      */
-    public ClubManagementSystemGUI(ClubManager clubManager, Map<String, String> users, Map<String, String> roles) {
+    public ClubManagementSystemGUI(ClubManager clubManager, Map<String, String> users, Map<String, String> roles,
+                                   AuditLog auditLog, NotificationOutbox outbox, ApplicationExpiry expiry,
+                                   RecruitmentAnalytics analytics, AdmissionScheduler admission,
+                                   SemesterArchive archive) {
         this.clubManager = clubManager;
         this.users = users;
         this.roles = roles;
+        this.auditLog = auditLog;
+        this.outbox = outbox;
+        this.expiry = expiry;
+        this.analytics = analytics;
+        this.admission = admission;
+        this.archive = archive;
     }
 
 
@@ -230,6 +273,8 @@ class ClubManagementSystemGUI {
             if (users.containsKey(id) && users.get(id).equals(password)) {
                 String userRole = roles.get(id);
                 if (userRole != null && userRole.equals(role)) {
+                    currentUserId = id; // 감사 로그에 기록할 세션 정보
+                    currentRole = userRole;
                     frame.dispose(); // 로그인 창 닫기
                     parentFrame.dispose(); // 메인 메뉴 닫기
 
@@ -346,8 +391,10 @@ class ClubManagementSystemGUI {
      * 관리자 메뉴를 표시합니다.
      * <p>
      * 이 메서드는 관리자 전용 메뉴를 생성하고 표시합니다.
-     * 관리자 메뉴는 동아리 관리 기능을 수행할 수 있는 네 개의 버튼으로 구성되어 있습니다.
-     * 동아리를 추가하거나 삭제할 수 있으며, 등록된 동아리 목록을 조회하거나 메인 메뉴로 돌아갈 수 있습니다.
+     * 관리자 메뉴는 동아리 관리 기능을 수행할 수 있는 열 개의 버튼으로 구성되어 있습니다.
+     * 동아리를 추가하거나 삭제할 수 있으며, 잘못된 추가·삭제를 되돌리거나,
+     * 등록된 동아리 목록과 모집 통계를 조회하고, 정원과 자동 선발을 관리하거나,
+     * 지난 학기 동아리를 보관하거나 메인 메뉴로 돌아갈 수 있습니다.
      * </p>
      *
      * <p>
@@ -356,6 +403,12 @@ class ClubManagementSystemGUI {
      *   <li>동아리 추가 버튼: 새로운 동아리를 추가할 수 있는 입력 폼을 표시</li>
      *   <li>동아리 삭제 버튼: 삭제할 동아리 이름을 입력받아 동아리를 삭제</li>
      *   <li>동아리 목록 조회 버튼: 등록된 모든 동아리를 표로 표시</li>
+     *   <li>실행 취소 버튼: 마지막 동아리 추가·삭제를 되돌림</li>
+     *   <li>다시 실행 버튼: 되돌린 작업을 다시 적용</li>
+     *   <li>모집 통계 버튼: 동아리별 신청·승인·거절·만료 수와 승인까지 걸린 시간을 표로 표시</li>
+     *   <li>정원 설정 버튼: 동아리 정원을 바꾸고, 늘어난 자리는 대기자 명단에서 채움</li>
+     *   <li>모집 라운드 실행 버튼: 정원이 있는 모든 동아리의 신청서를 순위대로 자동 승인</li>
+     *   <li>학기 보관 버튼: 활동이 끝난 동아리와 신청서를 학기 보관 파일로 옮김</li>
      *   <li>이전으로 돌아가기 버튼: 메인 메뉴로 돌아가기</li>
      * </ul>
      * </p>
@@ -374,18 +427,24 @@ class ClubManagementSystemGUI {
      *   <li>동아리 추가 버튼: {@link ClubManager#addClub(Club)} 호출</li>
      *   <li>동아리 삭제 버튼: {@link ClubManager#removeClub(String)} 호출</li>
      *   <li>동아리 목록 조회 버튼: {@link #displayClubTable(JFrame, List)} 호출</li>
+     *   <li>실행 취소 버튼: {@link ClubManager#undo()} 호출</li>
+     *   <li>다시 실행 버튼: {@link ClubManager#redo()} 호출</li>
+     *   <li>모집 통계 버튼: {@link #displayAnalytics(JFrame)} 호출</li>
+     *   <li>정원 설정 버튼: {@link Club#setCapacity(int)} 후 {@link AdmissionScheduler#seatsChanged(Club)} 호출</li>
+     *   <li>모집 라운드 실행 버튼: {@link AdmissionScheduler#runRound()} 호출</li>
+     *   <li>학기 보관 버튼: {@link SemesterArchive#archive(ClubManager, String, Predicate)} 호출</li>
      *   <li>이전으로 돌아가기 버튼: 메인 메뉴로 이동</li>
      * </ul>
      * </p>
      *
      * @created 2024-12-19
-     * @lastModified 2024-12-20
+     * @lastModified 2026-10-18
      */
     private void showAdminMenu() {
         JFrame frame = new JFrame("관리자 모드");
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
-        frame.setSize(400, 300);
-        frame.setLayout(new GridLayout(4, 1));
+        frame.setSize(400, 630);
+        frame.setLayout(new GridLayout(10, 1));
 
         JButton addClubButton = new JButton("동아리 추가");
         addClubButton.addActionListener(e -> {
@@ -400,6 +459,7 @@ class ClubManagementSystemGUI {
 
             clubManager.addClub(new Club(name, president, description));
             saveClubsToFile();
+            audit("동아리 추가", name, null);
             JOptionPane.showMessageDialog(frame, "동아리가 추가되었습니다.");
         });
 
@@ -410,6 +470,7 @@ class ClubManagementSystemGUI {
 
             if (clubManager.removeClub(name)) {
                 saveClubsToFile();
+                audit("동아리 삭제", name, null);
                 JOptionPane.showMessageDialog(frame, "동아리가 삭제되었습니다.");
             } else {
                 JOptionPane.showMessageDialog(frame, "해당 동아리를 찾을 수 없습니다.");
@@ -419,6 +480,108 @@ class ClubManagementSystemGUI {
         JButton listClubsButton = new JButton("동아리 목록 조회");
         listClubsButton.addActionListener(e -> displayClubTable(frame, clubManager.getAllClubs()));
 
+        JButton undoButton = new JButton("실행 취소");
+        undoButton.addActionListener(e -> {
+            String name = clubManager.undo();
+            if (name != null) {
+                saveClubsToFile();
+                audit("실행 취소", name, null);
+                JOptionPane.showMessageDialog(frame, "'" + name + "' 동아리에 대한 작업을 되돌렸습니다.");
+            } else {
+                JOptionPane.showMessageDialog(frame, "되돌릴 작업이 없습니다.");
+            }
+        });
+
+        JButton redoButton = new JButton("다시 실행");
+        redoButton.addActionListener(e -> {
+            String name = clubManager.redo();
+            if (name != null) {
+                saveClubsToFile();
+                audit("다시 실행", name, null);
+                JOptionPane.showMessageDialog(frame, "'" + name + "' 동아리에 대한 작업을 다시 실행했습니다.");
+            } else {
+                JOptionPane.showMessageDialog(frame, "다시 실행할 작업이 없습니다.");
+            }
+        });
+
+        JButton analyticsButton = new JButton("모집 통계");
+        analyticsButton.addActionListener(e -> displayAnalytics(frame));
+
+        JButton capacityButton = new JButton("정원 설정");
+        capacityButton.addActionListener(e -> {
+            String name = JOptionPane.showInputDialog(frame, "동아리 이름:");
+            if (name == null || name.trim().isEmpty()) return;
+
+            Club club = findClub(frame, name);
+            if (club == null) return;
+            String input = JOptionPane.showInputDialog(frame, "정원 (0은 제한 없음, 현재 회원 " + club.getMemberCount() + "명):",
+                    club.getCapacity());
+            if (input == null) return;
+            int capacity;
+            try {
+                capacity = Integer.parseInt(input.trim());
+            } catch (NumberFormatException ex) {
+                capacity = -1;
+            }
+            if (capacity < 0) {
+                JOptionPane.showMessageDialog(frame, "정원은 0 이상의 정수여야 합니다.");
+                return;
+            }
+            club.setCapacity(capacity);
+            clubManager.updateClub(club);
+            int admitted = admission.seatsChanged(club); // 늘어난 자리는 대기자 명단에서 채움
+            saveClubsToFile();
+            audit("정원 설정", club.getName(), String.valueOf(capacity));
+            JOptionPane.showMessageDialog(frame, "'" + club.getName() + "' 동아리 정원을 " + capacity + "명으로 설정했습니다."
+                    + (admitted > 0 ? "\n대기자 " + admitted + "명이 승인되었습니다." : ""));
+        });
+
+        JButton roundButton = new JButton("모집 라운드 실행");
+        roundButton.addActionListener(e -> {
+            int[] result = admission.runRound();
+            saveClubsToFile();
+            audit("모집 라운드", null, result[1] + "명 승인");
+            JOptionPane.showMessageDialog(frame, "정원이 있는 동아리 " + result[0] + "개에서 " + result[1] + "명을 승인했습니다.\n"
+                    + "대기자 명단에 " + result[2] + "명이 남아 있습니다.");
+        });
+
+        JButton archiveButton = new JButton("학기 보관");
+        archiveButton.addActionListener(e -> {
+            String semester = JOptionPane.showInputDialog(frame, "학기 이름 (예: 2026-1):");
+            if (semester == null || semester.trim().isEmpty()) return;
+            String input = JOptionPane.showInputDialog(frame, "보관할 동아리 이름 (쉼표로 구분, 비우면 모든 동아리):");
+            if (input == null) return;
+
+            Set<String> names = new HashSet<>();
+            for (String name : input.split(",")) {
+                if (!name.trim().isEmpty()) names.add(name.trim());
+            }
+            int confirm = JOptionPane.showConfirmDialog(frame,
+                    (names.isEmpty() ? "모든 동아리" : "동아리 " + names.size() + "개") + "를 '" + semester.trim()
+                            + "' 학기로 보관합니다.\n보관한 동아리와 신청서는 목록에서 사라집니다. 계속하시겠습니까?",
+                    "학기 보관", JOptionPane.YES_NO_OPTION);
+            if (confirm != JOptionPane.YES_OPTION) return;
+
+            List<Club> archived;
+            try {
+                archived = archive.archive(clubManager, semester.trim(),
+                        club -> names.isEmpty() || names.contains(club.getName()));
+            } catch (IOException | IllegalArgumentException ex) {
+                System.out.println("[ERROR] 학기 보관 중 오류가 발생했습니다: " + ex.getMessage());
+                JOptionPane.showMessageDialog(frame, "학기 보관에 실패했습니다: " + ex.getMessage());
+                return;
+            }
+            for (Club club : archived) {
+                for (Member member : club.getPendingApplications()) {
+                    expiry.cancel(club, member);
+                }
+                admission.forget(club.getName());
+            }
+            analytics.countPending(clubManager);
+            audit("학기 보관", null, semester.trim() + " " + archived.size() + "개");
+            JOptionPane.showMessageDialog(frame, "동아리 " + archived.size() + "개를 '" + semester.trim() + "' 학기로 보관했습니다.");
+        });
+
         JButton backButton = new JButton("이전으로 돌아가기");
         backButton.addActionListener(e -> {
             frame.dispose();
@@ -428,6 +591,12 @@ class ClubManagementSystemGUI {
         frame.add(addClubButton);
         frame.add(removeClubButton);
         frame.add(listClubsButton);
+        frame.add(undoButton);
+        frame.add(redoButton);
+        frame.add(analyticsButton);
+        frame.add(capacityButton);
+        frame.add(roundButton);
+        frame.add(archiveButton);
         frame.add(backButton);
 
         frame.setVisible(true);
@@ -483,7 +652,7 @@ class ClubManagementSystemGUI {
      * 버튼 동작:
      * <ul>
      *   <li>동아리 목록 조회 버튼: {@link #displayClubTable(JFrame, List)} 호출</li>
-     *   <li>동아리 가입 신청 버튼: {@link Club#addPendingApplication(Member)} 호출</li>
+     *   <li>동아리 가입 신청 버튼: {@link #findClub(JFrame, String)}로 동아리를 찾은 뒤 {@link Club#addPendingApplication(Member)} 호출</li>
      *   <li>이전으로 돌아가기 버튼: 메인 메뉴로 이동</li>
      * </ul>
      * </p>
@@ -508,7 +677,7 @@ class ClubManagementSystemGUI {
             String clubName = JOptionPane.showInputDialog(frame, "가입할 동아리 이름:");
             if (clubName == null || clubName.trim().isEmpty()) return;
 
-            Club club = clubManager.getClub(clubName);
+            Club club = findClub(frame, clubName);
             if (club != null) {
                 JTextArea applicationTextArea = new JTextArea(10, 30); // 텍스트 박스 크기 설정 (행 x 열)
                 applicationTextArea.setLineWrap(true); // 줄바꿈을 활성화
@@ -526,14 +695,21 @@ class ClubManagementSystemGUI {
                 if (result == JOptionPane.OK_OPTION) {
                     String applicationText = applicationTextArea.getText().trim();
                     if (!applicationText.isEmpty()) {
-                        club.addPendingApplication(new Member(studentName, applicationText));
-                        JOptionPane.showMessageDialog(frame, "가입 신청이 제출되었습니다.");
+                        Member member = new Member(studentName, applicationText);
+                        club.addPendingApplication(member);
+                        clubManager.updateClub(club);
+                        expiry.track(club, member); // 처리 기한 예약
+                        analytics.recordApplication(club.getName());
+                        if (admission.track(club, member)) { // 모집 중인 동아리에 빈 자리가 있으면 바로 승인
+                            saveClubsToFile();
+                            JOptionPane.showMessageDialog(frame, "가입 신청이 제출되어 바로 승인되었습니다.");
+                        } else {
+                            JOptionPane.showMessageDialog(frame, "가입 신청이 제출되었습니다.");
+                        }
                     } else {
                         JOptionPane.showMessageDialog(frame, "가입 신청서가 비어 있습니다. 다시 작성해주세요.");
                     }
                 }
-            } else {
-                JOptionPane.showMessageDialog(frame, "해당 동아리가 존재하지 않습니다.");
             }
         });
 
@@ -562,6 +738,7 @@ class ClubManagementSystemGUI {
      * 구성 요소:
      * <ul>
      *   <li>가입 신청서 확인 및 승인 버튼: 특정 동아리에 제출된 가입 신청서를 조회 및 승인</li>
+     *   <li>회원 탈퇴 처리 버튼: 회원 수를 하나 줄이고, 빈 자리는 대기자 명단에서 채움</li>
      *   <li>이전으로 돌아가기 버튼: 메인 메뉴로 돌아가기</li>
      * </ul>
      * </p>
@@ -577,33 +754,51 @@ class ClubManagementSystemGUI {
      * <p>
      * 버튼 동작:
      * <ul>
-     *   <li>가입 신청서 확인 및 승인 버튼: {@link #displayApplicationTable(JFrame, Club)} 호출</li>
+     *   <li>가입 신청서 확인 및 승인 버튼: {@link #findClub(JFrame, String)}로 동아리를 찾은 뒤 {@link #displayApplicationTable(JFrame, Club)} 호출</li>
+     *   <li>회원 탈퇴 처리 버튼: {@link Club#releaseSeat()} 후 {@link AdmissionScheduler#seatsChanged(Club)} 호출</li>
      *   <li>이전으로 돌아가기 버튼: 메인 메뉴로 이동</li>
      * </ul>
      * </p>
      *
      * @created 2024-12-20
-     * @lastModified 2024-12-20
+     * @lastModified 2026-10-18
      */
     private void showPresidentMenu() {
         JFrame frame = new JFrame("동아리 회장 모드");
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         frame.setSize(400, 300);
-        frame.setLayout(new GridLayout(2, 1));
+        frame.setLayout(new GridLayout(3, 1));
 
         JButton viewApplicationsButton = new JButton("가입 신청서 확인 및 승인");
         viewApplicationsButton.addActionListener(e -> {
             String clubName = JOptionPane.showInputDialog(frame, "동아리 이름:");
             if (clubName == null || clubName.trim().isEmpty()) return;
 
-            Club club = clubManager.getClub(clubName);
+            Club club = findClub(frame, clubName);
             if (club != null) {
                 displayApplicationTable(frame, club);
-            } else {
-                JOptionPane.showMessageDialog(frame, "해당 동아리가 존재하지 않습니다.");
             }
         });
 
+        JButton releaseSeatButton = new JButton("회원 탈퇴 처리");
+        releaseSeatButton.addActionListener(e -> {
+            String clubName = JOptionPane.showInputDialog(frame, "동아리 이름:");
+            if (clubName == null || clubName.trim().isEmpty()) return;
+
+            Club club = findClub(frame, clubName);
+            if (club == null) return;
+            if (!club.releaseSeat()) {
+                JOptionPane.showMessageDialog(frame, "탈퇴 처리할 회원이 없습니다.");
+                return;
+            }
+            clubManager.updateClub(club);
+            int admitted = admission.seatsChanged(club); // 빈 자리를 대기자 명단 맨 앞에서 채움
+            saveClubsToFile();
+            audit("회원 탈퇴", club.getName(), null);
+            JOptionPane.showMessageDialog(frame, "회원 탈퇴를 처리했습니다. 현재 회원 " + club.getMemberCount() + "명"
+                    + (admitted > 0 ? "\n대기자 " + admitted + "명이 승인되었습니다." : ""));
+        });
+
         JButton backButton = new JButton("이전으로 돌아가기");
         backButton.addActionListener(e -> {
             frame.dispose();
@@ -611,12 +806,107 @@ class ClubManagementSystemGUI {
         });
 
         frame.add(viewApplicationsButton);
+        frame.add(releaseSeatButton);
         frame.add(backButton);
 
         frame.setVisible(true);
     }
 
 
+    /**
+     * 이름으로 동아리를 찾고, 없으면 비슷한 이름을 제안합니다.
+     * <p>
+     * 입력한 이름의 동아리가 없으면 {@link ClubManager#suggestClubNames(String, int)}로 비슷한 이름을 찾아
+     * 선택 창을 표시합니다. 비슷한 이름도 없으면 "해당 동아리가 존재하지 않습니다." 메시지를 표시합니다.
+     * </p>
+     *
+     * @param frame 메시지를 표시할 부모 프레임
+     * @param clubName 사용자가 입력한 동아리 이름
+     * @return 찾았거나 사용자가 선택한 동아리 객체. 없거나 취소하면 null 반환
+     *
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    private Club findClub(JFrame frame, String clubName) {
+        Club club = clubManager.getClub(clubName);
+        if (club != null) return club;
+
+        List<String> suggestions = clubManager.suggestClubNames(clubName, 5);
+        if (suggestions.isEmpty()) {
+            JOptionPane.showMessageDialog(frame, "해당 동아리가 존재하지 않습니다.");
+            return null;
+        }
+        Object choice = JOptionPane.showInputDialog(
+                frame,
+                "해당 동아리가 존재하지 않습니다.\n혹시 다음 동아리를 찾으셨나요?",
+                "동아리 이름 확인",
+                JOptionPane.QUESTION_MESSAGE,
+                null,
+                suggestions.toArray(),
+                suggestions.get(0)
+        );
+        return choice == null ? null : clubManager.getClub(choice.toString());
+    }
+
+    /**
+     * 모집 통계를 표로 표시합니다.
+     * <p>
+     * {@link RecruitmentAnalytics}가 미리 집계해 둔 동아리별 신청·승인·거절·만료 수, 대기 중인 신청 수,
+     * 승인률, 승인까지 걸린 시간(중앙값, 90%)을 보여 줍니다. 마지막 줄은 전체 합계입니다.
+     * </p>
+     *
+     * <p>
+     * 레이아웃:
+     * <ul>
+     *   <li>중앙 영역: 통계 표를 보여주는 {@link JScrollPane}</li>
+     *   <li>하단 영역: "CSV 내보내기" 버튼</li>
+     * </ul>
+     * </p>
+     *
+     * @param parentFrame 부모 프레임
+     *
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    private void displayAnalytics(JFrame parentFrame) {
+        JFrame frame = new JFrame("모집 통계");
+        frame.setSize(800, 400);
+        frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        String[] columns = {"동아리 이름", "신청", "승인", "거절", "만료", "대기", "승인률", "승인 소요(중앙값)", "승인 소요(90%)"};
+        DefaultTableModel tableModel = new DefaultTableModel(columns, 0);
+        for (Map.Entry<String, RecruitmentAnalytics.Stats> entry : analytics.getClubStats().entrySet()) {
+            tableModel.addRow(analyticsRow(entry.getKey(), entry.getValue()));
+        }
+        tableModel.addRow(analyticsRow("(전체)", analytics.getTotal()));
+
+        JTable table = new JTable(tableModel);
+        JScrollPane scrollPane = new JScrollPane(table);
+
+        JButton exportButton = new JButton("CSV 내보내기");
+        exportButton.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            chooser.setSelectedFile(new File("recruitment_stats.csv"));
+            if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION) return;
+            try {
+                analytics.exportCsv(chooser.getSelectedFile());
+                JOptionPane.showMessageDialog(frame, "모집 통계를 내보냈습니다: " + chooser.getSelectedFile().getName());
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(frame, "모집 통계를 내보내는 중 오류가 발생했습니다: " + ex.getMessage());
+            }
+        });
+
+        frame.add(scrollPane, BorderLayout.CENTER);
+        frame.add(exportButton, BorderLayout.SOUTH);
+        frame.setVisible(true);
+    }
+
+    private static Object[] analyticsRow(String name, RecruitmentAnalytics.Stats stats) {
+        return new Object[]{name, stats.submitted.get(), stats.approved.get(), stats.rejected.get(),
+                stats.expired.get(), stats.pending.get(), String.format("%.1f%%", stats.approvalRate() * 100),
+                String.format("%.1f시간", stats.approvalHours(0.5)), String.format("%.1f시간", stats.approvalHours(0.9))};
+    }
+
     /**
      * 동아리 목록을 표로 표시합니다.
      * <p>
@@ -643,11 +933,12 @@ class ClubManagementSystemGUI {
         frame.setSize(600, 400);
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
 
-        String[] columns = {"동아리 이름", "회장", "소개"};
+        String[] columns = {"동아리 이름", "회장", "소개", "회원/정원"};
         DefaultTableModel tableModel = new DefaultTableModel(columns, 0);
 
         for (Club club : clubs) {
-            tableModel.addRow(new Object[]{club.getName(), club.getPresident(), club.getDescription()});
+            tableModel.addRow(new Object[]{club.getName(), club.getPresident(), club.getDescription(),
+                    club.getCapacity() == 0 ? "" : club.getMemberCount() + "/" + club.getCapacity()});
         }
 
         JTable table = new JTable(tableModel);
@@ -663,6 +954,9 @@ class ClubManagementSystemGUI {
      * 이 메서드는 특정 동아리에 제출된 가입 신청서를 JTable로 표시하며,
      * 신청자의 이름과 작성한 신청서를 포함합니다.
      * 신청 승인 버튼 추가
+     * 신청 거절 버튼 추가 (2026-10-18): 승인·거절 결과는 {@link NotificationOutbox}로 신청자에게 알립니다.
+     * 평가 입력 버튼 추가 (2026-10-18): 우선 선발 여부와 점수를 입력하면 {@link AdmissionScheduler}의 대기 순위에 반영됩니다.
+     * 정원이 가득 찬 동아리에서는 직접 승인할 수 없습니다.
      * </p>
      *
      * <p>
@@ -671,6 +965,7 @@ class ClubManagementSystemGUI {
      *   <li>JFrame: 가입 신청 목록을 표시하는 창</li>
      *   <li>JTable: 신청 정보를 표시하는 테이블</li>
      *   <li>JScrollPane: 테이블이 스크롤 가능하도록 설정</li>
+     *   <li>하단 영역: "신청 승인", "신청 거절" 버튼</li>
      * </ul>
      * </p>
      *
@@ -678,18 +973,20 @@ class ClubManagementSystemGUI {
      * @param club 가입 신청 목록을 표시할 동아리 객체
      *
      * @created 2024-12-20
-     * @lastModified 2024-12-23
+     * @lastModified 2026-10-18
      */
     private void displayApplicationTable(JFrame parentFrame, Club club) {
         JFrame frame = new JFrame("가입 신청 목록");
         frame.setSize(600, 400);
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
 
-        String[] columns = {"이름", "신청 내용"};
+        String[] columns = {"이름", "신청 내용", "우선 선발", "점수"};
         DefaultTableModel tableModel = new DefaultTableModel(columns, 0);
 
-        for (Member member : club.getPendingApplications()) {
-            tableModel.addRow(new Object[]{member.getName(), member.getApplicationText()});
+        List<Member> applications = club.getPendingApplications();
+        for (Member member : applications) {
+            tableModel.addRow(new Object[]{member.getName(), member.getApplicationText(),
+                    member.isPriority() ? "예" : "", member.getScore()});
         }
 
         JTable table = new JTable(tableModel);
@@ -735,9 +1032,22 @@ class ClubManagementSystemGUI {
         approveButton.addActionListener(e -> {
             int selectedRow = table.getSelectedRow();
             if (selectedRow >= 0) {
+                if (club.getOpenSeats() == 0) {
+                    JOptionPane.showMessageDialog(frame, "정원(" + club.getCapacity() + "명)이 가득 찼습니다.");
+                    return;
+                }
                 String memberName = table.getValueAt(selectedRow, 0).toString();
                 Member approvedMember = club.approveApplication(memberName);
                 if (approvedMember != null) {
+                    clubManager.updateClub(club);
+                    saveClubsToFile(); // 회원 수가 파일에 기록되므로 바로 저장
+                    expiry.cancel(club, approvedMember);
+                    admission.withdraw(club, approvedMember);
+                    analytics.recordApproval(club.getName(), approvedMember);
+                    audit("가입 승인", club.getName(), approvedMember.getName());
+                    outbox.enqueue("승인", club.getName(), approvedMember.getName(),
+                            "'" + club.getName() + "' 동아리 가입 신청이 승인되었습니다.");
+                    applications.remove(selectedRow);
                     tableModel.removeRow(selectedRow); // 테이블에서 승인된 신청 제거
                     JOptionPane.showMessageDialog(frame, "신청 승인 완료: " + approvedMember.getName());
                 } else {
@@ -748,41 +1058,88 @@ class ClubManagementSystemGUI {
             }
         });
 
+        JButton rejectButton = new JButton("신청 거절");
+        rejectButton.addActionListener(e -> {
+            int selectedRow = table.getSelectedRow();
+            if (selectedRow >= 0) {
+                String memberName = table.getValueAt(selectedRow, 0).toString();
+                Member rejectedMember = club.rejectApplication(memberName);
+                if (rejectedMember != null) {
+                    clubManager.updateClub(club);
+                    expiry.cancel(club, rejectedMember);
+                    admission.withdraw(club, rejectedMember);
+                    analytics.recordRejection(club.getName());
+                    audit("가입 거절", club.getName(), rejectedMember.getName());
+                    outbox.enqueue("거절", club.getName(), rejectedMember.getName(),
+                            "'" + club.getName() + "' 동아리 가입 신청이 거절되었습니다.");
+                    applications.remove(selectedRow);
+                    tableModel.removeRow(selectedRow); // 테이블에서 거절된 신청 제거
+                    JOptionPane.showMessageDialog(frame, "신청 거절 완료: " + rejectedMember.getName());
+                } else {
+                    JOptionPane.showMessageDialog(frame, "거절할 신청서를 찾을 수 없습니다.");
+                }
+            } else {
+                JOptionPane.showMessageDialog(frame, "거절할 신청서를 선택하세요.");
+            }
+        });
+
+        JButton rateButton = new JButton("평가 입력");
+        rateButton.addActionListener(e -> {
+            int selectedRow = table.getSelectedRow();
+            if (selectedRow < 0) {
+                JOptionPane.showMessageDialog(frame, "평가할 신청서를 선택하세요.");
+                return;
+            }
+            Member member = applications.get(selectedRow);
+            String input = JOptionPane.showInputDialog(frame, "점수:", member.getScore());
+            if (input == null) return;
+            int score;
+            try {
+                score = Integer.parseInt(input.trim());
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(frame, "점수는 정수여야 합니다.");
+                return;
+            }
+            boolean priority = JOptionPane.showConfirmDialog(frame, "우선 선발 대상입니까?", "우선 선발",
+                    JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION;
+            admission.rate(club, member, priority, score); // 대기 순위도 함께 고침
+            clubManager.updateClub(club);
+            tableModel.setValueAt(priority ? "예" : "", selectedRow, 2);
+            tableModel.setValueAt(score, selectedRow, 3);
+        });
+
+        JPanel buttonPanel = new JPanel(new GridLayout(1, 3));
+        buttonPanel.add(approveButton);
+        buttonPanel.add(rejectButton);
+        buttonPanel.add(rateButton);
+
         frame.add(scrollPane, BorderLayout.CENTER);
-        frame.add(approveButton, BorderLayout.SOUTH);
+        frame.add(buttonPanel, BorderLayout.SOUTH);
         frame.setVisible(true);
     }
 
     /**
-     * 동아리 데이터를 파일에 저장합니다.
-     * <p>
-     * 현재 등록된 모든 동아리 정보를 "clubs_data.txt" 파일에 저장합니다.
-     * 각 동아리 정보는 CSV 형식으로 저장되며, 파일은 UTF-8 형식으로 작성됩니다.
-     * </p>
-     *
+     * 로그인한 사용자의 작업을 감사 로그에 기록합니다.
      * <p>
-     * 파일 형식:
-     * <ul>
-     *   <li>파일 이름: "clubs_data.txt"</li>
-     *   <li>형식: "동아리 이름,회장 이름,소개"</li>
-     *   <li>줄바꿈: 각 동아리마다 한 줄</li>
-     * </ul>
+     * 기록은 비동기로 처리되므로 GUI 응답을 지연시키지 않습니다.
      * </p>
      *
-     * <p>
-     * 주요 동작:
-     * <ul>
-     *   <li>{@link ClubManager#getAllClubs()} 메서드를 호출하여 모든 동아리 정보를 가져옵니다.</li>
-     *   <li>{@link BufferedWriter}를 사용하여 파일을 작성합니다.</li>
-     *   <li>파일 쓰기 중 문제가 발생할 경우, 예외를 잡아 에러 메시지를 출력합니다.</li>
-     * </ul>
-     * </p>
+     * @param action 작업 이름
+     * @param clubName 대상 동아리 이름
+     * @param detail 추가 정보. 없으면 null
      *
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    private void audit(String action, String clubName, String detail) {
+        auditLog.record(currentUserId, currentRole, action, clubName, detail);
+    }
+
+    /**
+     * 동아리 데이터를 저장소에 기록합니다.
      * <p>
-     * 예외 처리:
-     * <ul>
-     *   <li>IOException: 파일 쓰기 중 오류가 발생한 경우, 콘솔에 오류 메시지를 출력합니다.</li>
-     * </ul>
+     * {@link ClubManager#save()}를 호출하여 현재 등록된 모든 동아리 정보를 저장합니다.
+     * 기본 텍스트 파일 저장소에서는 "clubs_data.txt" 파일 전체를 다시 씁니다.
      * </p>
      *
      * <p>
@@ -790,17 +1147,10 @@ class ClubManagementSystemGUI {
      * </p>
      *
      * @created 2024-12-20
-     * @lastModified 2024-12-20
+     * @lastModified 2026-10-18
      */
     private void saveClubsToFile() {
-        String fileName = "clubs_data.txt";
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(fileName))) {
-            for (Club club : clubManager.getAllClubs()) {
-                bw.write(String.format("%s,%s,%s%n", club.getName(), club.getPresident(), club.getDescription()));
-            }
-        } catch (IOException e) {
-            System.out.println("[ERROR] 동아리 데이터를 저장하는 중 오류가 발생했습니다: " + e.getMessage());
-        }
+        clubManager.save();
     }
 }
 
@@ -808,6 +1158,12 @@ class ClubManagementSystemGUI {
  * 동아리를 나타내는 클래스
  * <p>
  * 동아리 이름, 회장, 설명, 가입 신청서를 관리합니다.
+ * 가입 신청서 관련 메서드는 동기화되어 있어 여러 학생이 동시에 신청해도 안전합니다.
+ * </p>
+ *
+ * <p>
+ * 정원(2026-10-18 추가): 정원을 정한 동아리는 승인된 회원 수를 함께 세며, {@link AdmissionScheduler}가
+ * 빈 자리만큼 대기 중인 신청서를 순위대로 자동 승인합니다. 정원이 0이면 제한이 없습니다.
  * </p>
  *
  * @author Ji Woon Kim
@@ -819,6 +1175,8 @@ class Club {
     private String president;
     private String description;
     private List<Member> pendingApplications;
+    private int capacity;
+    private int memberCount;
 
     /**
      * {@link Club} 객체를 초기화합니다.
@@ -830,10 +1188,30 @@ class Club {
      * @lastModified 2024-12-18
      */
     public Club(String name, String president, String description) {
+        this(name, president, description, 0, 0);
+    }
+
+    /**
+     * 정원과 회원 수를 지정하여 {@link Club} 객체를 초기화합니다.
+     * <p>
+     * 저장소에서 기존 동아리를 다시 읽어 올 때 사용합니다.
+     * </p>
+     *
+     * @param name 동아리 이름
+     * @param president 동아리 회장 이름
+     * @param description 동아리 설명
+     * @param capacity 정원. 0이면 제한 없음
+     * @param memberCount 승인된 회원 수
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public Club(String name, String president, String description, int capacity, int memberCount) {
         this.name = name;
         this.president = president;
         this.description = description;
         this.pendingApplications = new ArrayList<>();
+        this.capacity = Math.max(0, capacity);
+        this.memberCount = Math.max(0, memberCount);
     }
 
     /**
@@ -868,17 +1246,80 @@ class Club {
      *
      * @param member 가입 신청을 한 회원 객체
      */
-    public void addPendingApplication(Member member) {
+    public synchronized void addPendingApplication(Member member) {
         pendingApplications.add(member);
     }
 
     /**
      * 가입 신청 목록을 반환합니다.
+     * <p>
+     * 여러 스레드가 동시에 신청서를 추가·승인할 수 있으므로 호출 시점의 복사본을 반환합니다.
+     * </p>
      *
      * @return 가입 신청 중인 {@link Member} 객체의 리스트
      */
-    public List<Member> getPendingApplications() {
-        return pendingApplications;
+    public synchronized List<Member> getPendingApplications() {
+        return new ArrayList<>(pendingApplications);
+    }
+
+    /**
+     * 대기 중인 가입 신청 수를 반환합니다. 목록을 복사하지 않습니다.
+     *
+     * @return 대기 중인 신청 수
+     */
+    public synchronized int getPendingCount() {
+        return pendingApplications.size();
+    }
+
+    /**
+     * 정원을 반환합니다.
+     *
+     * @return 정원. 0이면 제한 없음
+     */
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 정원을 바꿉니다. 이미 승인된 회원이 새 정원보다 많아도 회원 수는 줄이지 않습니다.
+     *
+     * @param capacity 새 정원. 0이면 제한 없음
+     * @throws IllegalArgumentException capacity가 음수인 경우
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("정원은 0 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * 승인된 회원 수를 반환합니다.
+     *
+     * @return 회원 수
+     */
+    public synchronized int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * 남은 자리 수를 반환합니다.
+     *
+     * @return 남은 자리 수. 정원이 없으면 {@link Integer#MAX_VALUE}
+     */
+    public synchronized int getOpenSeats() {
+        return capacity == 0 ? Integer.MAX_VALUE : Math.max(0, capacity - memberCount);
+    }
+
+    /**
+     * 회원 한 명이 탈퇴하여 자리가 하나 비었음을 기록합니다.
+     *
+     * @return 회원 수가 줄었으면 true, 회원이 없으면 false
+     */
+    public synchronized boolean releaseSeat() {
+        if (memberCount == 0) return false;
+        memberCount--;
+        return true;
     }
     /**
      * 2024-12-23 수정
@@ -887,15 +1328,79 @@ class Club {
      * @param name 승인할 회원의 이름
      * @return 승인된 {@link Member} 객체, 없으면 null 반환
      */
-    public Member approveApplication(String name) {
+    public synchronized Member approveApplication(String name) {
         for (Member member : pendingApplications) {
             if (member.getName().equals(name)) {
                 pendingApplications.remove(member); // 대기 목록에서 제거
+                memberCount++;
                 return member; // 승인된 회원 반환
             }
         }
         return null; // 신청서를 찾지 못한 경우
     }
+
+    /**
+     * 특정 이름의 가입 신청서를 거절합니다.
+     *
+     * @param name 거절할 회원의 이름
+     * @return 거절된 {@link Member} 객체, 없으면 null 반환
+     */
+    public synchronized Member rejectApplication(String name) {
+        for (Member member : pendingApplications) {
+            if (member.getName().equals(name)) {
+                pendingApplications.remove(member); // 대기 목록에서 제거
+                return member; // 거절된 회원 반환
+            }
+        }
+        return null; // 신청서를 찾지 못한 경우
+    }
+
+    /**
+     * 조건에 맞는 가입 신청서를 대기 목록에서 한 번에 제거합니다.
+     * <p>
+     * {@link ApplicationExpiry}가 기한이 지난 신청서를 묶어서 제거할 때 사용합니다.
+     * </p>
+     *
+     * @param expired 제거할 신청서를 판별하는 조건
+     * @return 제거된 {@link Member} 객체의 리스트
+     */
+    public synchronized List<Member> expireApplications(Predicate<Member> expired) {
+        List<Member> removed = new ArrayList<>();
+        pendingApplications.removeIf(member -> expired.test(member) && removed.add(member));
+        return removed;
+    }
+
+    /**
+     * 선발된 가입 신청서를 남은 자리만큼 한 번에 승인합니다.
+     * <p>
+     * {@link AdmissionScheduler}가 순위대로 고른 신청서를 넘기면, 아직 대기 목록에 있는 신청서만
+     * 넘긴 순서대로 남은 자리까지 승인합니다. 대기 목록은 한 번만 훑습니다.
+     * </p>
+     *
+     * @param chosen 순위대로 고른 신청서. 이름과 신청 시각으로 대기 목록의 신청서와 맞춰 봅니다.
+     * @return 승인된 {@link Member} 객체의 리스트 (대기 목록에 있던 객체)
+     */
+    public synchronized List<Member> admitApplications(List<Member> chosen) {
+        Map<String, Member> pending = new HashMap<>();
+        for (Member member : pendingApplications) {
+            pending.putIfAbsent(member.getKey(), member);
+        }
+        Set<Member> admitted = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Member> result = new ArrayList<>();
+        for (Member member : chosen) {
+            if (getOpenSeats() == 0) break;
+            Member match = pending.remove(member.getKey());
+            if (match != null) {
+                admitted.add(match);
+                result.add(match);
+                memberCount++;
+            }
+        }
+        if (!admitted.isEmpty()) {
+            pendingApplications.removeIf(admitted::contains);
+        }
+        return result;
+    }
 }
 
 /**
@@ -911,6 +1416,10 @@ class Club {
 class Member {
     private String name;
     private String applicationText;
+    private long appliedAt;
+    private String key;
+    private volatile boolean priority;
+    private volatile int score;
 
     /**
      * {@link Member} 객체를 초기화합니다.
@@ -921,8 +1430,43 @@ class Member {
      * @lastModified 2024-12-18
      */
     public Member(String name, String applicationText) {
+        this(name, applicationText, System.currentTimeMillis());
+    }
+
+    /**
+     * 신청 시각을 지정하여 {@link Member} 객체를 초기화합니다.
+     * <p>
+     * 저장소에서 기존 신청서를 다시 읽어 올 때 사용합니다.
+     * </p>
+     *
+     * @param name 회원 이름
+     * @param applicationText 가입 신청서 내용
+     * @param appliedAt 신청 시각(epoch ms)
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public Member(String name, String applicationText, long appliedAt) {
+        this(name, applicationText, appliedAt, false, 0);
+    }
+
+    /**
+     * 신청 시각과 선발 기준 값을 지정하여 {@link Member} 객체를 초기화합니다.
+     *
+     * @param name 회원 이름
+     * @param applicationText 가입 신청서 내용
+     * @param appliedAt 신청 시각(epoch ms)
+     * @param priority 우선 선발 대상 여부
+     * @param score 평가 점수
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public Member(String name, String applicationText, long appliedAt, boolean priority, int score) {
         this.name = name;
         this.applicationText = applicationText;
+        this.appliedAt = appliedAt;
+        this.key = name + '\0' + appliedAt;
+        this.priority = priority;
+        this.score = score;
     }
 
     /**
@@ -942,12 +1486,67 @@ class Member {
     public String getApplicationText() {
         return applicationText;
     }
+
+    /**
+     * 가입 신청 시각을 반환합니다.
+     *
+     * @return 신청 시각(epoch ms)
+     */
+    public long getAppliedAt() {
+        return appliedAt;
+    }
+
+    /**
+     * 우선 선발 대상인지 반환합니다.
+     *
+     * @return 우선 선발 대상이면 true
+     */
+    public boolean isPriority() {
+        return priority;
+    }
+
+    /**
+     * 평가 점수를 반환합니다.
+     *
+     * @return 평가 점수
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * 선발 기준 값을 바꿉니다.
+     * <p>
+     * 대기 순위가 바뀌므로 정원이 있는 동아리의 신청서는 {@link AdmissionScheduler#rate(Club, Member, boolean, int)}로 바꿉니다.
+     * </p>
+     *
+     * @param priority 우선 선발 대상 여부
+     * @param score 평가 점수
+     */
+    public void setRanking(boolean priority, int score) {
+        this.priority = priority;
+        this.score = score;
+    }
+
+    /**
+     * 동아리 안에서 신청서를 구별하는 키(이름과 신청 시각)를 반환합니다.
+     * <p>
+     * 데이터베이스 저장소는 조회할 때마다 새 객체를 만들므로 객체 대신 이 키로 같은 신청서인지 판단합니다.
+     * </p>
+     *
+     * @return 신청서 키
+     */
+    public String getKey() {
+        return key;
+    }
 }
 
 /**
  * 동아리 관리를 담당하는 클래스
  * <p>
  * 동아리의 추가, 삭제, 검색 및 목록 관리를 제공합니다.
+ * 실제 데이터는 {@link ClubRepository} 구현체에 보관됩니다.
+ * 메모리·텍스트 파일 저장소에서는 추가·삭제를 되돌리고 다시 실행할 수 있습니다.
  * </p>
  *
  * @author Ji Woo Park
@@ -955,31 +1554,57 @@ class Member {
  * @since 2024-12-18
  */
 class ClubManager {
-    private Map<String, Club> clubs;
+    private ClubRepository repository;
+    private final ClubNameIndex nameIndex = new ClubNameIndex();
 
     /**
      * {@link ClubManager} 객체를 초기화합니다.
      * <p>
-     * 내부적으로 빈 동아리 맵을 생성합니다.
+     * 내부적으로 빈 메모리 저장소를 생성합니다.
      * </p>
      *
      * @created 2024-12-18
-     * @lastModified 2024-12-18
+     * @lastModified 2026-10-18
      */
     public ClubManager() {
-        this.clubs = new HashMap<>();
+        this(new InMemoryClubRepository());
+    }
+
+    /**
+     * 주어진 저장소를 사용하는 {@link ClubManager} 객체를 초기화합니다.
+     * <p>
+     * 저장소에 이미 있는 동아리 이름으로 근사 검색 인덱스를 만듭니다.
+     * </p>
+     *
+     * @param repository 동아리 데이터를 보관할 저장소
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public ClubManager(ClubRepository repository) {
+        this.repository = repository;
+        repository.forEach(club -> nameIndex.add(club.getName()));
     }
 
     /**
      * 새로운 동아리를 추가합니다.
      * <p>
-     * 동아리 이름을 키로 사용하여 내부 맵에 저장합니다.
+     * 동아리 이름을 키로 사용하여 저장소에 저장합니다.
      * </p>
      *
      * @param club 추가할 동아리 객체
      */
     public void addClub(Club club) {
-        clubs.put(club.getName(), club);
+        repository.save(club);
+        nameIndex.add(club.getName());
+    }
+
+    /**
+     * 변경된 동아리 정보(가입 신청서 등)를 저장소에 반영합니다.
+     *
+     * @param club 변경된 동아리 객체
+     */
+    public void updateClub(Club club) {
+        repository.save(club);
     }
 
     /**
@@ -989,7 +1614,11 @@ class ClubManager {
      * @return 삭제가 성공하면 true, 아니면 false
      */
     public boolean removeClub(String name) {
-        return clubs.remove(name) != null;
+        if (repository.delete(name)) {
+            nameIndex.remove(name);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -999,7 +1628,21 @@ class ClubManager {
      * @return 해당 이름의 동아리 객체. 없으면 null 반환
      */
     public Club getClub(String name) {
-        return clubs.get(name);
+        return repository.findByName(name);
+    }
+
+    /**
+     * 입력한 이름과 비슷한 동아리 이름을 찾습니다.
+     * <p>
+     * {@link #getClub(String)}이 null을 반환했을 때 "혹시 ~을(를) 찾으셨나요?" 안내에 사용합니다.
+     * </p>
+     *
+     * @param name 사용자가 입력한 동아리 이름
+     * @param limit 최대 결과 수
+     * @return 가까운 순서로 정렬된 동아리 이름 리스트
+     */
+    public List<String> suggestClubNames(String name, int limit) {
+        return nameIndex.suggest(name, limit);
     }
 
     /**
@@ -1008,7 +1651,118 @@ class ClubManager {
      * @return {@link Club} 객체의 리스트
      */
     public List<Club> getAllClubs() {
-        return new ArrayList<>(clubs.values());
+        return repository.findAll();
+    }
+
+    /**
+     * 동아리 목록의 일부(페이지)를 반환합니다.
+     *
+     * @param offset 건너뛸 동아리 수
+     * @param limit 최대 조회 개수
+     * @return {@link Club} 객체의 리스트
+     */
+    public List<Club> getClubs(int offset, int limit) {
+        return repository.findPage(offset, limit);
+    }
+
+    /**
+     * 모든 동아리를 목록으로 만들지 않고 하나씩 처리합니다.
+     *
+     * @param action 각 동아리에 수행할 동작
+     */
+    public void forEachClub(Consumer<Club> action) {
+        repository.forEach(action);
+    }
+
+    /**
+     * 등록된 동아리 수를 반환합니다.
+     *
+     * @return 동아리 수
+     */
+    public int countClubs() {
+        return repository.count();
+    }
+
+    /**
+     * 특정 회장이 운영하는 동아리 목록을 반환합니다.
+     *
+     * @param president 회장 이름
+     * @return {@link Club} 객체의 리스트
+     */
+    public List<Club> findByPresident(String president) {
+        return repository.findByPresident(president);
+    }
+
+    /**
+     * 특정 신청자가 가입 신청서를 제출한 동아리 목록을 반환합니다.
+     *
+     * @param applicantName 신청자 이름
+     * @return {@link Club} 객체의 리스트
+     */
+    public List<Club> findByApplicant(String applicantName) {
+        return repository.findByApplicant(applicantName);
+    }
+
+    /**
+     * 저장소에 해당 필드의 보조 인덱스가 있는지 반환합니다. {@link ClubQuery}가 실행 계획을 정할 때 사용합니다.
+     *
+     * @param field 필드 이름
+     * @return 인덱스가 있으면 true
+     */
+    public boolean isIndexed(String field) {
+        return repository.isIndexed(field);
+    }
+
+    /**
+     * 저장소가 가입 신청서를 영구 저장소에 보관하는지 반환합니다.
+     *
+     * @return 신청서를 보관하면 true
+     */
+    public boolean persistsApplications() {
+        return repository.persistsApplications();
+    }
+
+    /**
+     * 변경 사항을 영구 저장소에 기록합니다.
+     */
+    public void save() {
+        repository.flush();
+    }
+
+    /**
+     * 마지막 동아리 추가·삭제를 되돌립니다.
+     *
+     * @return 되돌린 동아리 이름. 되돌릴 작업이 없거나 저장소가 지원하지 않으면 null 반환
+     */
+    public String undo() {
+        return syncIndex(repository.undo());
+    }
+
+    /**
+     * 마지막으로 되돌린 동아리 추가·삭제를 다시 적용합니다.
+     *
+     * @return 다시 적용한 동아리 이름. 다시 적용할 작업이 없거나 저장소가 지원하지 않으면 null 반환
+     */
+    public String redo() {
+        return syncIndex(repository.redo());
+    }
+
+    /**
+     * 실행 취소/다시 실행 기록을 모두 지웁니다. 되돌리면 안 되는 변경(예: 학기 보관) 뒤에 호출합니다.
+     */
+    public void clearHistory() {
+        repository.clearHistory();
+    }
+
+    private String syncIndex(String name) {
+        if (name != null) {
+            if (repository.findByName(name) != null) {
+                nameIndex.add(name);
+            } else {
+                nameIndex.remove(name);
+            }
+        }
+        return name;
     }
 }
 
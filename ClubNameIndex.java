@@ -0,0 +1,270 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 동아리 이름 근사 검색 인덱스
+ * <p>
+ * 동아리 이름을 한글 자모 단위로 분해한 뒤 편집 거리(Levenshtein distance)를 기준으로 하는
+ * BK-트리에 보관합니다. 오타가 섞인 이름으로 검색해도 가장 가까운 동아리 이름 k개를
+ * 전체 목록을 훑지 않고 찾을 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 동작 방식:
+ * <ul>
+ *   <li>이름은 공백을 제거하고 소문자로 바꾼 뒤, 한글 음절을 초성·중성·종성으로 분해하여 비교합니다.
+ *       예: "영화"와 "영하"는 음절 단위로는 1글자 차이지만 자모 단위로는 모음 하나(1) 차이입니다.</li>
+ *   <li>삭제는 노드에 삭제 표시만 하고, 삭제된 노드가 전체의 절반을 넘으면 트리를 다시 만듭니다.</li>
+ *   <li>모든 메서드는 동기화되어 있습니다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClubNameIndex {
+    static final int MAX_RADIUS = 3;
+
+    private Node root;
+    private int size;
+    private int deleted;
+
+    /**
+     * 동아리 이름을 인덱스에 추가합니다.
+     *
+     * @param name 추가할 동아리 이름
+     */
+    public synchronized void add(String name) {
+        int[] key = normalize(name);
+        if (root == null) {
+            root = new Node(key);
+            root.names.add(name);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (node.names.isEmpty()) {
+                    deleted--;
+                    size++;
+                }
+                node.names.add(name);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                Node created = new Node(key);
+                created.names.add(name);
+                node.children.put(distance, created);
+                node.maxEdge = Math.max(node.maxEdge, distance);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * 동아리 이름을 인덱스에서 제거합니다.
+     *
+     * @param name 제거할 동아리 이름
+     */
+    public synchronized void remove(String name) {
+        int[] key = normalize(name);
+        Node node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (node.names.remove(name) && node.names.isEmpty()) {
+                    size--;
+                    deleted++;
+                    if (deleted > size) {
+                        rebuild();
+                    }
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * 주어진 이름과 가장 가까운 동아리 이름을 최대 k개 반환합니다.
+     * <p>
+     * 자모 기준 편집 거리가 이름 길이의 1/4(최소 1, 최대 {@link #MAX_RADIUS})을 넘는 후보는 제외하며,
+     * 거리가 가까운 순서로 정렬하여 반환합니다.
+     * </p>
+     *
+     * @param query 검색할 이름
+     * @param k 최대 결과 수
+     * @return 가까운 순서로 정렬된 동아리 이름 리스트
+     */
+    public synchronized List<String> suggest(String query, int k) {
+        int[] key = normalize(query);
+        if (root == null || k <= 0 || key.length == 0) {
+            return Collections.emptyList();
+        }
+        int radius = Math.min(MAX_RADIUS, Math.max(1, key.length / 4));
+
+        // 가장 먼 후보가 맨 앞에 오는 최대 힙. 후보가 k개 찬 뒤에는 그 거리로 검색 반경을 줄입니다.
+        PriorityQueue<Candidate> best = new PriorityQueue<>((a, b) -> b.distance != a.distance
+                ? Integer.compare(b.distance, a.distance) : b.name.compareTo(a.name));
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            // 자식 간선 중 가장 큰 값 + 반경보다 먼 노드는 자신도 자식도 후보가 될 수 없으므로 계산을 일찍 끝냅니다.
+            int distance = distance(key, node.key, node.maxEdge + radius);
+            if (distance <= radius) {
+                for (String name : node.names) {
+                    best.add(new Candidate(name, distance));
+                    if (best.size() > k) {
+                        best.poll();
+                    }
+                }
+                if (best.size() == k) {
+                    radius = Math.min(radius, best.peek().distance);
+                }
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= radius) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(best);
+        sorted.sort((a, b) -> a.distance != b.distance
+                ? Integer.compare(a.distance, b.distance) : a.name.compareTo(b.name));
+        List<String> result = new ArrayList<>();
+        for (Candidate candidate : sorted) {
+            result.add(candidate.name);
+        }
+        return result;
+    }
+
+    /**
+     * 삭제 표시된 노드를 버리고 남은 이름으로 트리를 다시 만듭니다.
+     */
+    private void rebuild() {
+        List<String> names = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        if (root != null) stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            names.addAll(node.names);
+            for (Node child : node.children.values()) {
+                stack.push(child);
+            }
+        }
+        root = null;
+        size = 0;
+        deleted = 0;
+        for (String name : names) {
+            add(name);
+        }
+    }
+
+    /**
+     * 이름을 비교용 코드 배열로 바꿉니다.
+     * <p>
+     * 공백을 제거하고 소문자로 바꾼 뒤, 한글 음절(가~힣)은 초성·중성·(있으면)종성의 세 코드로 분해합니다.
+     * </p>
+     *
+     * @param name 원래 이름
+     * @return 자모 단위 코드 배열
+     */
+    static int[] normalize(String name) {
+        String text = name == null ? "" : name.toLowerCase();
+        int[] buffer = new int[text.length() * 3];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                int index = c - 0xAC00;
+                buffer[length++] = 0x1100 + index / 588;
+                buffer[length++] = 0x1161 + (index % 588) / 28;
+                if (index % 28 != 0) {
+                    buffer[length++] = 0x11A7 + index % 28;
+                }
+            } else {
+                buffer[length++] = c;
+            }
+        }
+        int[] key = new int[length];
+        System.arraycopy(buffer, 0, key, 0, length);
+        return key;
+    }
+
+    /**
+     * 두 코드 배열 사이의 편집 거리를 계산합니다.
+     */
+    static int distance(int[] a, int[] b) {
+        return distance(a, b, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 두 코드 배열 사이의 편집 거리를 계산하되, bound를 넘는 것이 확실해지면 bound + 1을 반환합니다.
+     */
+    static int distance(int[] a, int[] b, int bound) {
+        if (Math.abs(a.length - b.length) > bound) {
+            return bound + 1;
+        }
+        int[] previous = new int[b.length + 1];
+        int[] current = new int[b.length + 1];
+        for (int j = 0; j <= b.length; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length; i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length; j++) {
+                int cost = a[i - 1] == b[j - 1] ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length];
+    }
+
+    private static class Node {
+        final int[] key;
+        final Set<String> names = new TreeSet<>();
+        final Map<Integer, Node> children = new HashMap<>();
+        int maxEdge;
+
+        Node(int[] key) {
+            this.key = key;
+        }
+    }
+
+    private static class Candidate {
+        final String name;
+        final int distance;
+
+        Candidate(String name, int distance) {
+            this.name = name;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 동아리·가입 신청서 조회
+ * <p>
+ * 조건, 정렬, 개수 제한을 이어 붙여 동아리 또는 가입 신청서를 조회합니다.
+ * 예: 회장이 "홍길동"이고 대기 중인 신청이 50건 이상인 동아리
+ * <pre>
+ * ClubQuery.clubs().presidentIs("홍길동").minPending(50).orderByPendingDesc().limit(10).list(clubManager)
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * 실행 계획:
+ * <ul>
+ *   <li>동아리 이름 조건이 있으면 이름으로 바로 조회합니다.</li>
+ *   <li>저장소에 보조 인덱스가 있는 조건(회장, 신청자)이 있으면 인덱스로 후보를 좁힙니다.
+ *       인덱스가 없으면 {@link ClubRepository#findByPresident(String)} 등도 전체를 훑으므로 사용하지 않습니다.</li>
+ *   <li>그 외에는 전체 동아리를 훑으며, 동아리 수가 병렬 기준(시스템 속성 {@code club.query.parallelThreshold},
+ *       기본값 10000) 이상이면 병렬 스트림으로 나누어 처리합니다.</li>
+ *   <li>정렬과 개수 제한이 함께 있으면 전체를 정렬하지 않고 상위 N개만 유지합니다.</li>
+ * </ul>
+ * 인덱스로 후보를 좁힌 경우에도 모든 조건을 다시 검사하므로 결과는 실행 계획과 관계없이 같습니다.
+ * {@link #explain(ClubManager)}로 선택된 실행 계획을 확인할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 참고: 정렬을 지정하지 않으면 결과 순서는 보장하지 않습니다.
+ * </p>
+ *
+ * @param <T> 조회 결과 타입 ({@link Club} 또는 {@link ClubQuery.Application})
+ * @param <Q> 이어 붙이기용 하위 클래스 타입
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+abstract class ClubQuery<T, Q extends ClubQuery<T, Q>> {
+    static final int PARALLEL_THRESHOLD = Integer.getInteger("club.query.parallelThreshold", 10_000);
+    /** 이 개수 이하의 제한은 상위 N개만 유지하고, 그보다 크면 전체를 정렬합니다. */
+    static final int TOP_K_LIMIT = 10_000;
+
+    private final List<Predicate<? super T>> filters = new ArrayList<>();
+    private final List<String> filterNames = new ArrayList<>();
+    private Comparator<? super T> order;
+    private String orderName;
+    private int limit = Integer.MAX_VALUE;
+
+    String nameKey;
+    String presidentKey;
+    String applicantKey;
+
+    /**
+     * 동아리 조회를 시작합니다.
+     *
+     * @return {@link Clubs} 객체
+     */
+    static Clubs clubs() {
+        return new Clubs();
+    }
+
+    /**
+     * 가입 신청서 조회를 시작합니다.
+     *
+     * @return {@link Applications} 객체
+     */
+    static Applications applications() {
+        return new Applications();
+    }
+
+    /**
+     * 조건을 추가합니다.
+     *
+     * @param name 실행 계획에 표시할 조건 이름
+     * @param predicate 조건
+     * @return 이 조회 객체
+     */
+    Q where(String name, Predicate<? super T> predicate) {
+        filters.add(predicate);
+        filterNames.add(name);
+        return self();
+    }
+
+    /**
+     * 이름 없는 조건을 추가합니다. 실행 계획에는 "사용자 조건"으로 표시됩니다.
+     *
+     * @param predicate 조건
+     * @return 이 조회 객체
+     */
+    Q where(Predicate<? super T> predicate) {
+        return where("사용자 조건", predicate);
+    }
+
+    /**
+     * 정렬 순서를 지정합니다. 여러 번 호출하면 마지막 순서만 적용됩니다.
+     *
+     * @param name 실행 계획에 표시할 정렬 이름
+     * @param comparator 정렬 순서
+     * @return 이 조회 객체
+     */
+    Q orderBy(String name, Comparator<? super T> comparator) {
+        this.order = comparator;
+        this.orderName = name;
+        return self();
+    }
+
+    /**
+     * 최대 결과 수를 지정합니다.
+     *
+     * @param limit 최대 결과 수
+     * @return 이 조회 객체
+     * @throws IllegalArgumentException limit이 음수인 경우
+     */
+    Q limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit은 0 이상이어야 합니다: " + limit);
+        }
+        this.limit = limit;
+        return self();
+    }
+
+    /**
+     * 조회를 실행합니다.
+     *
+     * @param clubManager 조회할 {@link ClubManager}
+     * @return 조건에 맞는 결과 리스트
+     */
+    List<T> list(ClubManager clubManager) {
+        return select(clubManager, Function.identity());
+    }
+
+    /**
+     * 조회를 실행하고 결과마다 필요한 값만 뽑아 반환합니다.
+     *
+     * @param clubManager 조회할 {@link ClubManager}
+     * @param projection 결과에서 값을 뽑는 함수 (예: {@code Club::getName})
+     * @param <R> 뽑은 값의 타입
+     * @return 뽑은 값의 리스트
+     */
+    <R> List<R> select(ClubManager clubManager, Function<? super T, ? extends R> projection) {
+        return run(plan(clubManager), projection);
+    }
+
+    /**
+     * {@link ClubManager} 대신 주어진 동아리 목록(예: {@link SemesterArchive}에서 읽은 지난 학기 동아리)을 조회합니다.
+     * 인덱스는 쓰지 않고 목록 전체를 훑습니다.
+     *
+     * @param clubs 조회할 동아리 목록
+     * @return 조건에 맞는 결과 리스트
+     */
+    List<T> list(Collection<Club> clubs) {
+        return select(clubs, Function.identity());
+    }
+
+    /**
+     * 주어진 동아리 목록을 조회하고 결과마다 필요한 값만 뽑아 반환합니다.
+     *
+     * @param clubs 조회할 동아리 목록
+     * @param projection 결과에서 값을 뽑는 함수
+     * @param <R> 뽑은 값의 타입
+     * @return 뽑은 값의 리스트
+     */
+    <R> List<R> select(Collection<Club> clubs, Function<? super T, ? extends R> projection) {
+        return run(new Plan("목록 스캔", () -> clubs, clubs.size()), projection);
+    }
+
+    private <R> List<R> run(Plan plan, Function<? super T, ? extends R> projection) {
+        if (limit == 0) return new ArrayList<>();
+
+        Collection<Club> clubs = plan.source.get();
+        Stream<Club> source = plan.parallel ? clubs.parallelStream() : clubs.stream();
+        Stream<T> stream = expand(source);
+        for (Predicate<? super T> filter : filters) {
+            stream = stream.filter(filter);
+        }
+        List<T> rows;
+        if (order == null) {
+            rows = stream.unordered().limit(limit).collect(Collectors.toList());
+        } else if (limit <= TOP_K_LIMIT) {
+            rows = stream.collect(topK(order, limit));
+        } else {
+            rows = stream.sorted(order).limit(limit).collect(Collectors.toList());
+        }
+        List<R> result = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            result.add(projection.apply(row));
+        }
+        return result;
+    }
+
+    /**
+     * 조회를 실행하지 않고 선택될 실행 계획을 설명합니다.
+     *
+     * @param clubManager 조회할 {@link ClubManager}
+     * @return 실행 계획 설명 (여러 줄)
+     */
+    String explain(ClubManager clubManager) {
+        Plan plan = plan(clubManager);
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName()).append('\n');
+        sb.append("  접근: ").append(plan.access).append('\n');
+        if (plan.scanned < 0) {
+            sb.append("  처리: 순차 스트림").append('\n');
+        } else {
+            sb.append("  처리: ").append(plan.parallel ? "병렬" : "순차").append(" 스트림 (동아리 ").append(plan.scanned)
+                    .append("개, 병렬 기준 ").append(PARALLEL_THRESHOLD).append("개)").append('\n');
+        }
+        sb.append("  조건: ").append(filterNames.isEmpty() ? "없음" : String.join(" AND ", filterNames)).append('\n');
+        if (order == null) {
+            sb.append("  정렬: 없음").append('\n');
+        } else {
+            sb.append("  정렬: ").append(orderName).append(limit <= TOP_K_LIMIT
+                    ? " (상위 " + limit + "개만 유지)" : " (전체 정렬)").append('\n');
+        }
+        sb.append("  제한: ").append(limit == Integer.MAX_VALUE ? "없음" : String.valueOf(limit));
+        return sb.toString();
+    }
+
+    abstract Q self();
+
+    /**
+     * 후보 동아리를 조회 결과 타입으로 펼칩니다.
+     *
+     * @param clubs 후보 동아리 스트림
+     * @return 조회 결과 스트림
+     */
+    abstract Stream<T> expand(Stream<Club> clubs);
+
+    /**
+     * 후보 동아리를 가져올 방법을 정합니다. 이름, 인덱스가 있는 회장·신청자, 전체 순서로 선택합니다.
+     * 후보는 실행할 때 가져오므로 {@link #explain(ClubManager)}는 동아리를 읽지 않습니다.
+     */
+    private Plan plan(ClubManager clubManager) {
+        if (nameKey != null) {
+            String name = nameKey;
+            return new Plan("이름 조회 name = \"" + name + "\"", () -> {
+                Club club = clubManager.getClub(name);
+                return club == null ? Collections.emptyList() : List.of(club);
+            }, -1);
+        }
+        if (presidentKey != null && clubManager.isIndexed(ClubRepository.INDEX_PRESIDENT)) {
+            String president = presidentKey;
+            return new Plan("인덱스 president = \"" + president + "\"",
+                    () -> clubManager.findByPresident(president), -1);
+        }
+        if (applicantKey != null && clubManager.isIndexed(ClubRepository.INDEX_APPLICANT)) {
+            String applicant = applicantKey;
+            return new Plan("인덱스 applicant = \"" + applicant + "\"",
+                    () -> clubManager.findByApplicant(applicant), -1);
+        }
+        return new Plan("전체 스캔", clubManager::getAllClubs, clubManager.countClubs());
+    }
+
+    /**
+     * 정렬 순서로 상위 limit개만 유지하는 수집기입니다. 병렬 스트림에서는 조각마다 따로 모은 뒤 합칩니다.
+     */
+    private static <T> Collector<T, PriorityQueue<T>, List<T>> topK(Comparator<? super T> order, int limit) {
+        Comparator<T> reversed = (left, right) -> order.compare(right, left);
+        return Collector.of(
+                () -> new PriorityQueue<>(reversed),
+                (heap, row) -> offer(heap, row, order, limit),
+                (left, right) -> {
+                    for (T row : right) {
+                        offer(left, row, order, limit);
+                    }
+                    return left;
+                },
+                heap -> {
+                    List<T> rows = new ArrayList<>(heap);
+                    rows.sort(order);
+                    return rows;
+                });
+    }
+
+    private static <T> void offer(PriorityQueue<T> heap, T row, Comparator<? super T> order, int limit) {
+        if (heap.size() < limit) {
+            heap.add(row);
+        } else if (order.compare(row, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(row);
+        }
+    }
+
+    private static final class Plan {
+        final String access;
+        final Supplier<Collection<Club>> source;
+        /** 전체 스캔할 동아리 수. 이름·인덱스 조회는 -1 */
+        final int scanned;
+        final boolean parallel;
+
+        Plan(String access, Supplier<Collection<Club>> source, int scanned) {
+            this.access = access;
+            this.source = source;
+            this.scanned = scanned;
+            this.parallel = scanned >= PARALLEL_THRESHOLD;
+        }
+    }
+
+    /**
+     * 동아리 조회
+     */
+    static final class Clubs extends ClubQuery<Club, Clubs> {
+        @Override
+        Clubs self() {
+            return this;
+        }
+
+        @Override
+        Stream<Club> expand(Stream<Club> clubs) {
+            return clubs;
+        }
+
+        Clubs nameIs(String name) {
+            nameKey = name;
+            return where("name = \"" + name + "\"", club -> club.getName().equals(name));
+        }
+
+        Clubs presidentIs(String president) {
+            presidentKey = president;
+            return where("president = \"" + president + "\"", club -> club.getPresident().equals(president));
+        }
+
+        Clubs hasApplicant(String applicantName) {
+            applicantKey = applicantName;
+            return where("applicant = \"" + applicantName + "\"", club -> {
+                for (Member member : club.getPendingApplications()) {
+                    if (member.getName().equals(applicantName)) return true;
+                }
+                return false;
+            });
+        }
+
+        Clubs minPending(int count) {
+            return where("pending >= " + count, club -> club.getPendingCount() >= count);
+        }
+
+        Clubs nameContains(String keyword) {
+            return where("name contains \"" + keyword + "\"", club -> club.getName().contains(keyword));
+        }
+
+        Clubs descriptionContains(String keyword) {
+            return where("description contains \"" + keyword + "\"", club -> club.getDescription().contains(keyword));
+        }
+
+        Clubs orderByName() {
+            return orderBy("name ASC", Comparator.comparing(Club::getName));
+        }
+
+        Clubs orderByPendingDesc() {
+            return orderBy("pending DESC, name ASC", Comparator.comparingInt(Club::getPendingCount).reversed()
+                    .thenComparing(Club::getName));
+        }
+    }
+
+    /**
+     * 가입 신청서 조회
+     */
+    static final class Applications extends ClubQuery<Application, Applications> {
+        @Override
+        Applications self() {
+            return this;
+        }
+
+        @Override
+        Stream<Application> expand(Stream<Club> clubs) {
+            return clubs.flatMap(club -> club.getPendingApplications().stream()
+                    .map(member -> new Application(club, member)));
+        }
+
+        Applications clubIs(String clubName) {
+            nameKey = clubName;
+            return where("club = \"" + clubName + "\"", row -> row.club.getName().equals(clubName));
+        }
+
+        Applications presidentIs(String president) {
+            presidentKey = president;
+            return where("president = \"" + president + "\"", row -> row.club.getPresident().equals(president));
+        }
+
+        Applications applicantIs(String applicantName) {
+            applicantKey = applicantName;
+            return where("applicant = \"" + applicantName + "\"", row -> row.member.getName().equals(applicantName));
+        }
+
+        Applications textContains(String keyword) {
+            return where("text contains \"" + keyword + "\"", row -> row.member.getApplicationText().contains(keyword));
+        }
+
+        Applications appliedBefore(long millis) {
+            return where("applied_at < " + millis, row -> row.member.getAppliedAt() < millis);
+        }
+
+        Applications appliedAfter(long millis) {
+            return where("applied_at >= " + millis, row -> row.member.getAppliedAt() >= millis);
+        }
+
+        Applications orderByAppliedAt() {
+            return orderBy("applied_at ASC", Comparator.comparingLong((Application row) -> row.member.getAppliedAt())
+                    .thenComparing(row -> row.club.getName()).thenComparing(row -> row.member.getName()));
+        }
+    }
+
+    /**
+     * 가입 신청서 조회 결과 한 건 (동아리와 신청서)
+     */
+    static final class Application {
+        final Club club;
+        final Member member;
+
+        Application(Club club, Member member) {
+            this.club = club;
+            this.member = member;
+        }
+
+        Club getClub() {
+            return club;
+        }
+
+        Member getMember() {
+            return member;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 동아리 데이터 저장소 인터페이스
+ * <p>
+ * {@link ClubManager}가 동아리 데이터를 읽고 쓰는 저장소 계층입니다.
+ * 구현체에 따라 텍스트 파일, 메모리, 내장 데이터베이스에 동아리와 가입 신청서를 보관합니다.
+ * </p>
+ *
+ * <p>
+ * 제공되는 구현체:
+ * <ul>
+ *   <li>{@link InMemoryClubRepository}: 메모리에만 보관하는 저장소</li>
+ *   <li>{@link TextFileClubRepository}: "clubs_data.txt" 텍스트 파일 저장소 (기본값)</li>
+ *   <li>{@link ShardedTextClubRepository}: 이름 해시로 나눈 여러 텍스트 파일에 병렬로 읽고 쓰는 저장소</li>
+ *   <li>{@link JdbcClubRepository}: H2, SQLite 등 파일 모드 내장 데이터베이스 저장소</li>
+ * </ul>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+interface ClubRepository {
+    int FOREACH_PAGE_SIZE = 1000;
+    String INDEX_PRESIDENT = "president";
+    String INDEX_APPLICANT = "applicant";
+
+    /**
+     * 이름으로 동아리를 조회합니다.
+     *
+     * @param name 조회할 동아리 이름
+     * @return 해당 이름의 동아리 객체. 없으면 null 반환
+     */
+    Club findByName(String name);
+
+    /**
+     * 모든 동아리를 조회합니다.
+     *
+     * @return {@link Club} 객체의 리스트
+     */
+    List<Club> findAll();
+
+    /**
+     * 동아리 목록의 일부(페이지)를 조회합니다.
+     *
+     * @param offset 건너뛸 동아리 수
+     * @param limit 최대 조회 개수
+     * @return {@link Club} 객체의 리스트
+     */
+    List<Club> findPage(int offset, int limit);
+
+    /**
+     * 모든 동아리를 하나씩 처리합니다.
+     * <p>
+     * 전체 목록을 리스트로 만들지 않으므로 내보내기처럼 모든 동아리를 훑는 작업에 사용합니다.
+     * 기본 구현은 {@link #findPage(int, int)}로 {@link #FOREACH_PAGE_SIZE}개씩 나누어 읽습니다.
+     * </p>
+     *
+     * @param action 각 동아리에 수행할 동작
+     */
+    default void forEach(Consumer<Club> action) {
+        for (int offset = 0; ; offset += FOREACH_PAGE_SIZE) {
+            List<Club> page = findPage(offset, FOREACH_PAGE_SIZE);
+            page.forEach(action);
+            if (page.size() < FOREACH_PAGE_SIZE) return;
+        }
+    }
+
+    /**
+     * 특정 회장이 운영하는 동아리를 조회합니다.
+     *
+     * @param president 회장 이름
+     * @return {@link Club} 객체의 리스트
+     */
+    List<Club> findByPresident(String president);
+
+    /**
+     * 특정 신청자가 가입 신청서를 제출한 동아리를 조회합니다.
+     *
+     * @param applicantName 신청자 이름
+     * @return {@link Club} 객체의 리스트
+     */
+    List<Club> findByApplicant(String applicantName);
+
+    /**
+     * 조회 조건에 쓸 수 있는 보조 인덱스가 있는지 반환합니다.
+     * <p>
+     * 인덱스가 없는 저장소의 {@link #findByPresident(String)}, {@link #findByApplicant(String)}는 전체를 훑으므로
+     * {@link ClubQuery}는 인덱스가 있을 때만 이 메서드들로 후보를 좁힙니다. 기본 구현은 false를 반환합니다.
+     * </p>
+     *
+     * @param field 필드 이름 ({@link #INDEX_PRESIDENT} 또는 {@link #INDEX_APPLICANT})
+     * @return 인덱스가 있으면 true
+     */
+    default boolean isIndexed(String field) {
+        return false;
+    }
+
+    /**
+     * 대기 중인 가입 신청서를 영구 저장소에 보관하는지 반환합니다.
+     * <p>
+     * 텍스트 파일 저장소는 동아리 정보만 파일에 쓰므로, 신청서는 프로그램을 다시 시작하면 사라집니다.
+     * 기본 구현은 false를 반환합니다.
+     * </p>
+     *
+     * @return 신청서를 보관하면 true
+     */
+    default boolean persistsApplications() {
+        return false;
+    }
+
+    /**
+     * 동아리를 저장합니다. 같은 이름의 동아리가 있으면 덮어씁니다.
+     *
+     * @param club 저장할 동아리 객체
+     */
+    void save(Club club);
+
+    /**
+     * 동아리를 삭제합니다.
+     *
+     * @param name 삭제할 동아리 이름
+     * @return 삭제가 성공하면 true, 아니면 false
+     */
+    boolean delete(String name);
+
+    /**
+     * 등록된 동아리 수를 반환합니다.
+     *
+     * @return 동아리 수
+     */
+    int count();
+
+    /**
+     * 변경 사항을 영구 저장소에 기록합니다.
+     * <p>
+     * 변경 즉시 기록하는 구현체에서는 아무 동작도 하지 않습니다.
+     * </p>
+     */
+    void flush();
+
+    /**
+     * 저장소가 관리하는 데이터 파일 목록을 반환합니다. {@link IntegrityScrubber}가 검사할 파일입니다.
+     *
+     * @return 데이터 파일 경로 목록. 파일을 쓰지 않는 저장소는 빈 목록
+     */
+    default List<Path> dataFiles() {
+        return List.of();
+    }
+
+    /**
+     * 데이터 파일이 손상되었을 때 현재 메모리 상태로 모든 데이터 파일을 다시 씁니다.
+     * <p>
+     * 기본 구현은 {@link #flush()}를 호출합니다.
+     * </p>
+     */
+    default void rewrite() {
+        flush();
+    }
+
+    /**
+     * 마지막 변경(추가, 삭제, 교체)을 되돌립니다.
+     * <p>
+     * 버전 기록을 지원하지 않는 저장소는 아무 동작도 하지 않고 null을 반환합니다.
+     * </p>
+     *
+     * @return 되돌린 변경의 대상 동아리 이름. 되돌릴 변경이 없으면 null 반환
+     */
+    default String undo() {
+        return null;
+    }
+
+    /**
+     * 마지막으로 되돌린 변경을 다시 적용합니다.
+     * <p>
+     * 버전 기록을 지원하지 않는 저장소는 아무 동작도 하지 않고 null을 반환합니다.
+     * </p>
+     *
+     * @return 다시 적용한 변경의 대상 동아리 이름. 다시 적용할 변경이 없으면 null 반환
+     */
+    default String redo() {
+        return null;
+    }
+
+    /**
+     * 실행 취소/다시 실행 기록을 모두 지웁니다.
+     * <p>
+     * 학기 보관처럼 되돌리면 안 되는 변경 뒤에 호출합니다.
+     * 버전 기록을 지원하지 않는 저장소는 아무 동작도 하지 않습니다.
+     * </p>
+     */
+    default void clearHistory() {
+    }
+
+    /**
+     * 저장소 종류에 맞는 구현체를 생성합니다.
+     * <p>
+     * 종류는 "text", "memory", "sharded", "jdbc" 중 하나이며, 알 수 없는 값이면 "text"를 사용합니다.
+     * "sharded" 저장소의 파티션 수는 처음 만들 때 {@code club.shards} 시스템 속성(기본값 4)으로 정합니다.
+     * "jdbc" 저장소는 {@code club.jdbc.url} 시스템 속성의 URL을 사용하며,
+     * 데이터베이스 연결에 실패하면 에러 메시지를 출력하고 텍스트 파일 저장소를 사용합니다.
+     * </p>
+     *
+     * @param type 저장소 종류
+     * @return {@link ClubRepository} 구현체
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    static ClubRepository create(String type) {
+        switch (type == null ? "text" : type.trim().toLowerCase()) {
+            case "memory":
+                return new InMemoryClubRepository();
+            case "sharded":
+                return new ShardedTextClubRepository(TextFileClubRepository.DEFAULT_FILE,
+                        Integer.getInteger("club.shards", ShardedTextClubRepository.DEFAULT_SHARDS));
+            case "jdbc":
+                String url = System.getProperty("club.jdbc.url", JdbcClubRepository.DEFAULT_URL);
+                try {
+                    return new JdbcClubRepository(url);
+                } catch (IllegalStateException e) {
+                    System.out.println("[ERROR] 데이터베이스 저장소를 열 수 없어 텍스트 파일 저장소를 사용합니다: " + e.getMessage());
+                    return new TextFileClubRepository(TextFileClubRepository.DEFAULT_FILE);
+                }
+            default:
+                return new TextFileClubRepository(TextFileClubRepository.DEFAULT_FILE);
+        }
+    }
+}
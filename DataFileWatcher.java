@@ -0,0 +1,235 @@
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 데이터 파일 변경 감시 클래스
+ * <p>
+ * {@link WatchService}로 "clubs_data.txt"와 "users.txt"가 있는 디렉터리를 감시하다가,
+ * 파일이 바뀌면 새 내용을 현재 메모리 상태와 비교하여 추가·변경·삭제된 항목만 반영합니다.
+ * 프로그램을 재시작하지 않고도 학생 계정을 일괄 등록하거나 동아리 목록을 수정할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 동작 방식:
+ * <ul>
+ *   <li>편집기가 임시 파일을 쓴 뒤 이름을 바꾸는 경우도 처리하도록 생성·수정 이벤트를 모두 받습니다.</li>
+ *   <li>쓰기 도중의 파일을 읽지 않도록 이벤트를 받은 뒤 {@link #SETTLE_MILLIS}만큼 기다렸다가 한 번에 처리합니다.</li>
+ *   <li>GUI가 저장한 파일도 다시 감지되지만, 내용이 메모리와 같으므로 아무 변경도 일어나지 않습니다.</li>
+ *   <li>동아리 파일은 마지막으로 읽은 내용과 비교하여 파일에서 실제로 바뀐 줄만 반영합니다.
+ *       아직 저장되지 않은 새 동아리나 회원 수 변경이 예전 파일 내용으로 지워지거나 되돌아가지 않습니다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class DataFileWatcher {
+    static final long SETTLE_MILLIS = 200;
+
+    private final ClubManager clubManager;
+    private final Map<String, String> users;
+    private final Map<String, String> roles;
+    private final Path clubsFile;
+    private final Path usersFile;
+    /** 마지막으로 읽은 동아리 파일의 내용(이름별). 감시 스레드에서만 사용합니다. */
+    private Map<String, Club> lastFileClubs = new HashMap<>();
+
+    /**
+     * {@link DataFileWatcher} 객체를 초기화합니다.
+     *
+     * @param clubManager 변경 사항을 반영할 {@link ClubManager}
+     * @param users 아이디-비밀번호 맵 (동시 접근이 가능한 맵이어야 합니다)
+     * @param roles 아이디-역할 맵 (동시 접근이 가능한 맵이어야 합니다)
+     * @param clubsFile 감시할 동아리 데이터 파일 경로. null이면 감시하지 않습니다.
+     * @param usersFile 감시할 사용자 정보 파일 경로. null이면 감시하지 않습니다.
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public DataFileWatcher(ClubManager clubManager, Map<String, String> users, Map<String, String> roles,
+                           String clubsFile, String usersFile) {
+        this.clubManager = clubManager;
+        this.users = users;
+        this.roles = roles;
+        this.clubsFile = clubsFile == null ? null : Paths.get(clubsFile).toAbsolutePath().normalize();
+        this.usersFile = usersFile == null ? null : Paths.get(usersFile).toAbsolutePath().normalize();
+        if (this.clubsFile != null && Files.isRegularFile(this.clubsFile)) {
+            lastFileClubs = byName(TextFileClubRepository.readClubs(clubsFile));
+        }
+    }
+
+    /**
+     * 감시 스레드를 데몬 스레드로 시작합니다.
+     * <p>
+     * 감시 서비스를 열 수 없으면 에러 메시지를 출력하고 감시 없이 계속 실행합니다.
+     * </p>
+     */
+    public void start() {
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            Set<Path> directories = new HashSet<>();
+            if (clubsFile != null) directories.add(clubsFile.getParent());
+            if (usersFile != null) directories.add(usersFile.getParent());
+            for (Path directory : directories) {
+                directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        } catch (IOException e) {
+            System.out.println("[ERROR] 데이터 파일 감시를 시작할 수 없습니다: " + e.getMessage());
+            return;
+        }
+
+        Thread thread = new Thread(() -> watchLoop(watchService), "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watchLoop(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new HashSet<>();
+                collect(key, changed);
+                Thread.sleep(SETTLE_MILLIS);
+                // 대기하는 동안 들어온 이벤트도 한 번에 처리합니다.
+                while ((key = watchService.poll()) != null) {
+                    collect(key, changed);
+                }
+                // 이름 바꾸기 도중이라 파일이 잠시 없으면 전체 삭제로 오인하지 않도록 건너뜁니다.
+                if (clubsFile != null && changed.contains(clubsFile) && Files.isRegularFile(clubsFile)) {
+                    reloadClubs();
+                }
+                if (usersFile != null && changed.contains(usersFile) && Files.isRegularFile(usersFile)) {
+                    reloadUsers();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 감시 종료
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // 이벤트가 유실되었으면 두 파일을 모두 다시 비교합니다.
+                if (clubsFile != null) changed.add(clubsFile);
+                if (usersFile != null) changed.add(usersFile);
+                continue;
+            }
+            changed.add(directory.resolve((Path) event.context()).toAbsolutePath().normalize());
+        }
+        key.reset();
+    }
+
+    /**
+     * 동아리 데이터 파일의 변경 사항을 {@link ClubManager}에 반영합니다.
+     * <p>
+     * 마지막으로 읽은 파일 내용과 비교하여, 파일에서 새로 생기거나 바뀐 줄만 반영하고
+     * 마지막으로 읽은 파일에 있던 동아리가 빠졌을 때만 삭제합니다. 그사이 메모리에서 추가했지만 아직 파일에 쓰지 않은 동아리는
+     * 파일에 없어도 지우지 않습니다.
+     * 회장, 소개, 정원, 회원 수가 바뀐 동아리는 새 {@link Club} 객체로 교체하되, 기존 가입 신청서는 그대로 옮깁니다.
+     * </p>
+     */
+    void reloadClubs() {
+        List<Club> fileClubs = TextFileClubRepository.readClubs(clubsFile.toString());
+        Map<String, Club> previous = lastFileClubs;
+        lastFileClubs = byName(fileClubs);
+        Map<String, Club> current = new HashMap<>();
+        for (Club club : clubManager.getAllClubs()) {
+            current.put(club.getName(), club);
+        }
+
+        int added = 0, updated = 0, removed = 0;
+        Set<String> seen = new HashSet<>();
+        for (Club club : fileClubs) {
+            seen.add(club.getName());
+            Club before = previous.get(club.getName());
+            if (before != null && sameFields(before, club)) continue; // 파일에서 바뀌지 않은 줄
+            Club existing = current.get(club.getName());
+            if (existing == null) {
+                clubManager.addClub(club);
+                added++;
+            } else if (!sameFields(existing, club)) {
+                for (Member member : existing.getPendingApplications()) {
+                    club.addPendingApplication(member);
+                }
+                clubManager.addClub(club);
+                updated++;
+            }
+        }
+        for (String name : current.keySet()) {
+            if (!seen.contains(name) && previous.containsKey(name) && clubManager.removeClub(name)) {
+                removed++;
+            }
+        }
+
+        if (added + updated + removed > 0) {
+            System.out.println("[INFO] 동아리 데이터 변경 반영: 추가 " + added + ", 변경 " + updated + ", 삭제 " + removed);
+        }
+    }
+
+    private static Map<String, Club> byName(List<Club> clubs) {
+        Map<String, Club> result = new HashMap<>();
+        for (Club club : clubs) {
+            result.put(club.getName(), club);
+        }
+        return result;
+    }
+
+    private static boolean sameFields(Club a, Club b) {
+        return a.getPresident().equals(b.getPresident())
+                && a.getDescription().equals(b.getDescription())
+                && a.getCapacity() == b.getCapacity()
+                && a.getMemberCount() == b.getMemberCount();
+    }
+
+    /**
+     * 사용자 정보 파일의 변경 사항을 아이디-비밀번호, 아이디-역할 맵에 반영합니다.
+     */
+    void reloadUsers() {
+        Map<String, String[]> fileUsers = ClubManagementSystem.readUsers(usersFile.toString());
+
+        int added = 0, updated = 0, removed = 0;
+        for (Map.Entry<String, String[]> entry : fileUsers.entrySet()) {
+            String id = entry.getKey();
+            String password = entry.getValue()[0];
+            String role = entry.getValue()[1];
+            String oldPassword = users.get(id);
+            if (oldPassword == null) {
+                added++;
+            } else if (!oldPassword.equals(password) || !role.equals(roles.get(id))) {
+                updated++;
+            } else {
+                continue;
+            }
+            roles.put(id, role);
+            users.put(id, password);
+        }
+        for (String id : new HashSet<>(users.keySet())) {
+            if (!fileUsers.containsKey(id)) {
+                users.remove(id);
+                roles.remove(id);
+                removed++;
+            }
+        }
+
+        if (added + updated + removed > 0) {
+            System.out.println("[INFO] 사용자 데이터 변경 반영: 추가 " + added + ", 변경 " + updated + ", 삭제 " + removed);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 기반 동아리 저장소
+ * <p>
+ * 동아리 이름을 키로 하는 {@link PersistentHashMap}에 동아리를 보관합니다.
+ * 추가·삭제할 때마다 이전 버전과 구조를 공유하는 새 버전이 만들어지므로,
+ * 이전 버전을 보관하는 것만으로 실행 취소/다시 실행과 O(1) 스냅샷을 제공합니다.
+ * 프로그램이 종료되면 데이터는 사라집니다.
+ * </p>
+ *
+ * <p>
+ * 동시성:
+ * <ul>
+ *   <li>조회는 현재 버전을 읽기만 하므로 잠금 없이 수행됩니다.</li>
+ *   <li>변경은 동기화되어 한 번에 하나씩 새 버전을 만듭니다.</li>
+ *   <li>{@link #snapshot()}으로 얻은 버전은 이후 변경과 관계없이 그대로 유지됩니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 참고: 버전 기록은 동아리 목록(추가, 삭제, 교체)에 대한 것이며,
+ * 동아리 객체 안의 가입 신청서 변경은 기록되지 않습니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class InMemoryClubRepository implements ClubRepository {
+    static final int HISTORY_LIMIT = 100;
+
+    protected volatile PersistentHashMap<String, Club> clubs = PersistentHashMap.empty();
+    private final Deque<Version> undoHistory = new ArrayDeque<>();
+    private final Deque<Version> redoHistory = new ArrayDeque<>();
+
+    @Override
+    public Club findByName(String name) {
+        return clubs.get(name);
+    }
+
+    @Override
+    public List<Club> findAll() {
+        return clubs.values();
+    }
+
+    /**
+     * 호출 시점의 버전을 그대로 순회하므로, 순회 중의 변경과 관계없이 일관된 목록을 복사 없이 처리합니다.
+     */
+    @Override
+    public void forEach(Consumer<Club> action) {
+        clubs.forEachValue(action);
+    }
+
+    @Override
+    public List<Club> findPage(int offset, int limit) {
+        List<Club> page = new ArrayList<>();
+        int[] index = {0};
+        clubs.forEachValue(club -> {
+            if (page.size() < limit && index[0]++ >= offset) {
+                page.add(club);
+            }
+        });
+        return page;
+    }
+
+    @Override
+    public List<Club> findByPresident(String president) {
+        List<Club> result = new ArrayList<>();
+        clubs.forEachValue(club -> {
+            if (club.getPresident().equals(president)) {
+                result.add(club);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<Club> findByApplicant(String applicantName) {
+        List<Club> result = new ArrayList<>();
+        clubs.forEachValue(club -> {
+            for (Member member : club.getPendingApplications()) {
+                if (member.getName().equals(applicantName)) {
+                    result.add(club);
+                    break;
+                }
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public synchronized void save(Club club) {
+        apply(clubs.put(club.getName(), club), club.getName());
+    }
+
+    @Override
+    public synchronized boolean delete(String name) {
+        return apply(clubs.remove(name), name);
+    }
+
+    @Override
+    public int count() {
+        return clubs.size();
+    }
+
+    @Override
+    public void flush() {
+        // 메모리 저장소는 기록할 영구 저장소가 없습니다.
+    }
+
+    /**
+     * 현재 버전의 스냅샷을 반환합니다.
+     * <p>
+     * 반환된 맵은 불변이므로, 내보내기나 파일 저장처럼 오래 걸리는 읽기 작업을
+     * 다른 변경을 막지 않고 일관된 상태로 수행할 수 있습니다.
+     * </p>
+     *
+     * @return 현재 버전의 동아리 맵
+     */
+    public PersistentHashMap<String, Club> snapshot() {
+        return clubs;
+    }
+
+    @Override
+    public synchronized String undo() {
+        return move(undoHistory, redoHistory);
+    }
+
+    @Override
+    public synchronized String redo() {
+        return move(redoHistory, undoHistory);
+    }
+
+    /**
+     * 실행 취소/다시 실행 기록을 모두 지웁니다.
+     * <p>
+     * 파일에서 초기 데이터를 읽은 직후처럼, 되돌리면 안 되는 변경 뒤에 호출합니다.
+     * </p>
+     */
+    @Override
+    public synchronized void clearHistory() {
+        undoHistory.clear();
+        redoHistory.clear();
+    }
+
+    private boolean apply(PersistentHashMap<String, Club> next, String name) {
+        if (next == clubs) {
+            return false;
+        }
+        undoHistory.push(new Version(clubs, name));
+        if (undoHistory.size() > HISTORY_LIMIT) {
+            undoHistory.removeLast();
+        }
+        redoHistory.clear();
+        clubs = next;
+        return true;
+    }
+
+    private String move(Deque<Version> from, Deque<Version> to) {
+        Version version = from.poll();
+        if (version == null) {
+            return null;
+        }
+        to.push(new Version(clubs, version.name));
+        clubs = version.clubs;
+        return version.name;
+    }
+
+    /**
+     * 저장소의 한 버전과 그 버전 이후에 바뀐 동아리 이름
+     */
+    private static class Version {
+        final PersistentHashMap<String, Club> clubs;
+        final String name;
+
+        Version(PersistentHashMap<String, Club> clubs, String name) {
+            this.clubs = clubs;
+            this.name = name;
+        }
+    }
+}
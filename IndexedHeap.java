@@ -0,0 +1,248 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * 키로 찾아 지우거나 순위를 고칠 수 있는 이진 힙 (indexed priority queue)
+ * <p>
+ * 각 키의 배열 위치를 맵에 함께 기록하므로, 맨 앞 항목을 꺼내는 것뿐 아니라
+ * 임의의 키를 지우거나 값이 바뀐 항목의 자리를 고치는 것도 O(log n)에 처리합니다.
+ * 처음 만들 때 항목을 한꺼번에 주면 O(n)에 힙을 구성합니다.
+ * </p>
+ *
+ * <p>
+ * 참고: 스레드 안전하지 않으므로 여러 스레드에서 사용할 때는 호출하는 쪽에서 동기화해야 합니다.
+ * </p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (비교 기준)
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IndexedHeap<K, V> {
+    private final Comparator<? super V> order;
+    private final Map<K, Integer> positions;
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * 빈 힙을 만듭니다.
+     *
+     * @param order 값의 순서. 가장 앞선 값이 먼저 꺼내집니다.
+     */
+    IndexedHeap(Comparator<? super V> order) {
+        this(order, List.of(), value -> null);
+    }
+
+    /**
+     * 주어진 값들로 힙을 O(n)에 구성합니다. 키가 같은 값이 여러 개면 처음 값만 넣습니다.
+     *
+     * @param order 값의 순서. 가장 앞선 값이 먼저 꺼내집니다.
+     * @param values 처음 넣을 값
+     * @param keyOf 값에서 키를 구하는 함수
+     */
+    IndexedHeap(Comparator<? super V> order, Collection<? extends V> values, Function<? super V, ? extends K> keyOf) {
+        this.order = order;
+        int capacity = Math.max(16, values.size());
+        this.positions = new HashMap<>(capacity * 4 / 3 + 1);
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        for (V value : values) {
+            K key = keyOf.apply(value);
+            if (positions.putIfAbsent(key, size) == null) {
+                this.keys[size] = key;
+                this.values[size] = value;
+                size++;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(K key) {
+        return positions.containsKey(key);
+    }
+
+    V get(K key) {
+        Integer index = positions.get(key);
+        return index == null ? null : value(index);
+    }
+
+    /**
+     * 모든 값을 힙 배열 순서(정렬되지 않음)로 복사해 반환합니다.
+     *
+     * @return 값 리스트
+     */
+    List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(value(i));
+        }
+        return result;
+    }
+
+    /**
+     * 가장 앞선 값을 꺼내지 않고 반환합니다.
+     *
+     * @return 가장 앞선 값. 비어 있으면 null
+     */
+    V peek() {
+        return size == 0 ? null : value(0);
+    }
+
+    /**
+     * 가장 앞선 값을 꺼냅니다.
+     *
+     * @return 가장 앞선 값
+     * @throws NoSuchElementException 힙이 비어 있는 경우
+     */
+    V poll() {
+        if (size == 0) throw new NoSuchElementException();
+        V top = value(0);
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * 항목을 넣습니다. 같은 키가 이미 있으면 값을 바꾸고 자리를 고칩니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 이전 값. 없었으면 null
+     */
+    V put(K key, V value) {
+        Integer index = positions.get(key);
+        if (index != null) {
+            V previous = value(index);
+            values[index] = value;
+            fix(index);
+            return previous;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = key;
+        values[size] = value;
+        positions.put(key, size);
+        siftUp(size++);
+        return null;
+    }
+
+    /**
+     * 키의 항목을 지웁니다.
+     *
+     * @param key 키
+     * @return 지운 값. 없었으면 null
+     */
+    V remove(K key) {
+        Integer index = positions.get(key);
+        if (index == null) return null;
+        V removed = value(index);
+        removeAt(index);
+        return removed;
+    }
+
+    /**
+     * 값의 비교 기준이 바뀐 항목의 자리를 고칩니다.
+     *
+     * @param key 키
+     * @return 항목이 있으면 true
+     */
+    boolean update(K key) {
+        Integer index = positions.get(key);
+        if (index == null) return false;
+        fix(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        positions.remove(key(index));
+        int last = --size;
+        if (index != last) {
+            move(last, index);
+            fix(index);
+        }
+        keys[last] = null;
+        values[last] = null;
+    }
+
+    private void fix(int index) {
+        if (index > 0 && order.compare(value(index), value((index - 1) / 2)) < 0) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        Object key = keys[index];
+        Object value = values[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (order.compare(cast(value), value(parent)) >= 0) break;
+            move(parent, index);
+            index = parent;
+        }
+        place(key, value, index);
+    }
+
+    private void siftDown(int index) {
+        Object key = keys[index];
+        Object value = values[index];
+        int half = size / 2;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && order.compare(value(child + 1), value(child)) < 0) child++;
+            if (order.compare(value(child), cast(value)) >= 0) break;
+            move(child, index);
+            index = child;
+        }
+        place(key, value, index);
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+        positions.put(key(to), to);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void place(Object key, Object value, int index) {
+        keys[index] = key;
+        values[index] = value;
+        positions.put((K) key, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int index) {
+        return (K) keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int index) {
+        return (V) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V cast(Object value) {
+        return (V) value;
+    }
+}
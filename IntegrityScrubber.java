@@ -0,0 +1,150 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데이터 파일 무결성 백그라운드 검사기
+ * <p>
+ * 낮은 우선순위의 데몬 스레드가 일정한 간격으로 저장소의 데이터 파일({@link ClubRepository#dataFiles()})을
+ * {@link ChecksummedFile}로 다시 검사합니다. 디스크를 독점하지 않도록 초당 읽는 양을 제한합니다.
+ * </p>
+ *
+ * <p>
+ * 손상을 발견하면:
+ * <ul>
+ *   <li>저장 도중에 검사한 것일 수 있으므로 잠시 뒤 한 번 더 검사합니다.</li>
+ *   <li>여전히 손상되어 있으면 메모리에 있는 마지막 정상 상태로 파일을 다시 씁니다({@link ClubRepository#rewrite()}).</li>
+ *   <li>다시 써도 정상이 아니면 ".bak" 백업으로 블록 단위 복구를 시도합니다.</li>
+ * </ul>
+ * 발견·복구한 블록 수는 {@link ChecksummedFile}의 카운터에 누적되며 {@link #getMetrics()}로 조회합니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IntegrityScrubber {
+    static final long DEFAULT_INTERVAL_SECONDS = 600;
+    static final long DEFAULT_BYTES_PER_SECOND = 8L << 20;
+    static final long RECHECK_MILLIS = 1_000;
+
+    private final ClubRepository repository;
+    private final long intervalMillis;
+    private final long bytesPerSecond;
+    private final AtomicLong scans = new AtomicLong();
+    private volatile long lastScanAt;
+    private Thread thread;
+
+    /**
+     * {@link IntegrityScrubber} 객체를 초기화합니다.
+     *
+     * @param repository 데이터 파일을 가진 저장소
+     * @param intervalMillis 검사 간격(밀리초)
+     * @param bytesPerSecond 초당 최대 읽기 바이트 수
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public IntegrityScrubber(ClubRepository repository, long intervalMillis, long bytesPerSecond) {
+        this.repository = repository;
+        this.intervalMillis = intervalMillis;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /**
+     * 시스템 속성 {@code club.scrub.intervalSeconds}(기본값 600), {@code club.scrub.bytesPerSecond}(기본값 8MB)로
+     * 검사기를 만듭니다.
+     *
+     * @param repository 데이터 파일을 가진 저장소
+     * @return {@link IntegrityScrubber} 객체
+     */
+    static IntegrityScrubber fromSystemProperties(ClubRepository repository) {
+        return new IntegrityScrubber(repository,
+                TimeUnit.SECONDS.toMillis(Long.getLong("club.scrub.intervalSeconds", DEFAULT_INTERVAL_SECONDS)),
+                Long.getLong("club.scrub.bytesPerSecond", DEFAULT_BYTES_PER_SECOND));
+    }
+
+    /**
+     * 검사 스레드를 낮은 우선순위의 데몬 스레드로 시작합니다. 데이터 파일이 없는 저장소에서는 시작하지 않습니다.
+     */
+    public synchronized void start() {
+        if (thread != null || repository.dataFiles().isEmpty()) return;
+        thread = new Thread(this::scrubLoop, "integrity-scrubber");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    private void scrubLoop() {
+        try {
+            while (true) {
+                Thread.sleep(intervalMillis);
+                scrubOnce();
+            }
+        } catch (InterruptedException e) {
+            // 검사 종료
+        }
+    }
+
+    /**
+     * 모든 데이터 파일을 한 번 검사합니다.
+     *
+     * @return 손상이 발견된 파일 수
+     * @throws InterruptedException 재검사를 기다리는 중 인터럽트된 경우
+     */
+    int scrubOnce() throws InterruptedException {
+        int corruptFiles = 0;
+        for (Path file : repository.dataFiles()) {
+            if (!Files.isRegularFile(file)) continue;
+            try {
+                ChecksummedFile.Verification verification = ChecksummedFile.verify(file, bytesPerSecond);
+                ChecksummedFile.recordVerified(Files.size(file));
+                if (verification.status == ChecksummedFile.Status.UNSEALED
+                        || verification.status == ChecksummedFile.Status.MODIFIED) {
+                    ChecksummedFile.seal(file);
+                    continue;
+                }
+                if (verification.status == ChecksummedFile.Status.OK) continue;
+
+                Thread.sleep(RECHECK_MILLIS);
+                verification = ChecksummedFile.verify(file);
+                if (verification.status != ChecksummedFile.Status.CORRUPT) continue;
+
+                corruptFiles++;
+                int blocks = verification.badBlocks.size();
+                System.out.println("[ERROR] " + file.getFileName() + " 파일의 블록 " + blocks + "개가 손상되었습니다: "
+                        + verification.badBlocks);
+                repository.rewrite();
+                boolean repaired = ChecksummedFile.verify(file).status == ChecksummedFile.Status.OK
+                        || ChecksummedFile.repair(file, verification.badBlocks);
+                ChecksummedFile.recordCorruption(blocks, repaired);
+                System.out.println(repaired
+                        ? "[INFO] " + file.getFileName() + " 파일을 복구했습니다."
+                        : "[ERROR] " + file.getFileName() + " 파일을 복구할 수 없습니다.");
+            } catch (IOException e) {
+                System.out.println("[ERROR] " + file.getFileName() + " 파일을 검사하는 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
+        scans.incrementAndGet();
+        lastScanAt = System.currentTimeMillis();
+        if (corruptFiles > 0) {
+            System.out.println("[INFO] 무결성 검사 지표: " + getMetrics());
+        }
+        return corruptFiles;
+    }
+
+    /**
+     * 검사 지표를 한 줄로 반환합니다.
+     *
+     * @return 검사 횟수, 마지막 검사 시각, 검사한 바이트 수, 손상·복구 블록 수, 복구하지 못한 파일 수
+     */
+    public String getMetrics() {
+        return "검사 " + scans.get() + "회, 마지막 검사 " + (lastScanAt == 0 ? "-" : new Date(lastScanAt))
+                + ", 검사한 바이트 " + ChecksummedFile.getVerifiedBytes()
+                + ", 손상 블록 " + ChecksummedFile.getCorruptBlocks()
+                + ", 복구한 블록 " + ChecksummedFile.getRepairedBlocks()
+                + ", 복구하지 못한 파일 " + ChecksummedFile.getUnrepairedFiles();
+    }
+}
@@ -0,0 +1,521 @@
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 내장 데이터베이스 기반 동아리 저장소
+ * <p>
+ * JDBC를 통해 파일 모드 내장 데이터베이스(H2, SQLite 등)에 동아리와 가입 신청서를 저장합니다.
+ * 조회할 때마다 필요한 행만 디스크에서 읽으므로 전체 데이터를 메모리에 올리지 않습니다.
+ * 사용하려는 데이터베이스의 JDBC 드라이버가 클래스패스에 있어야 합니다.
+ * </p>
+ *
+ * <p>
+ * 테이블 및 인덱스:
+ * <ul>
+ *   <li>clubs(name, president, description, capacity, member_count): name 기본 키, president 인덱스</li>
+ *   <li>applications(club_name, seq, applicant, application_text, applied_at, priority, score): applicant 인덱스</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 참고: 반환된 {@link Club} 객체는 데이터베이스 행의 복사본입니다.
+ * 가입 신청서를 변경한 뒤에는 {@link #save(Club)}를 호출해야 변경 사항이 저장됩니다.
+ * 저장소는 복사본을 읽어 올 때의 상태를 기억해 두었다가, 저장할 때 그 뒤에 바뀐 신청서 행만 추가·삭제하고
+ * 회원 수는 늘어나거나 줄어든 만큼만 더합니다. 그래서 만료 스레드와 화면이 같은 동아리를 각자 읽어
+ * 저장하더라도, 한쪽이 읽은 뒤에 다른 쪽이 추가한 신청서가 지워지지 않습니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class JdbcClubRepository implements ClubRepository {
+    static final String DEFAULT_URL = "jdbc:h2:file:./clubs_db";
+    /** 신청서를 한 번에 읽을 동아리 수. SQLite의 매개변수 개수 제한(999)보다 작게 둡니다. */
+    static final int APPLICATION_BATCH_SIZE = 500;
+
+    private final Connection connection;
+    /** 읽어 온 복사본마다 읽을 때의 회원 수와 신청서. 복사본이 더 쓰이지 않으면 함께 사라집니다. */
+    private final Map<Club, Snapshot> snapshots = new WeakHashMap<>();
+
+    /**
+     * 데이터베이스에 연결하고 필요한 테이블과 인덱스를 생성합니다.
+     *
+     * @param url JDBC 연결 URL (예: "jdbc:h2:file:./clubs_db", "jdbc:sqlite:clubs.db")
+     * @throws IllegalStateException 연결 또는 스키마 생성에 실패한 경우
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public JdbcClubRepository(String url) {
+        try {
+            this.connection = DriverManager.getConnection(url);
+            try (Statement st = connection.createStatement()) {
+                st.executeUpdate("CREATE TABLE IF NOT EXISTS clubs ("
+                        + "name VARCHAR(255) PRIMARY KEY, "
+                        + "president VARCHAR(255) NOT NULL, "
+                        + "description VARCHAR(4000), "
+                        + "capacity INT DEFAULT 0, "
+                        + "member_count INT DEFAULT 0)");
+                st.executeUpdate("CREATE TABLE IF NOT EXISTS applications ("
+                        + "club_name VARCHAR(255) NOT NULL, "
+                        + "seq INT NOT NULL, "
+                        + "applicant VARCHAR(255) NOT NULL, "
+                        + "application_text VARCHAR(4000), "
+                        + "applied_at BIGINT, "
+                        + "priority BOOLEAN DEFAULT FALSE, "
+                        + "score INT DEFAULT 0, "
+                        + "PRIMARY KEY (club_name, seq))");
+                st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_clubs_president ON clubs(president)");
+                st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_applications_applicant ON applications(applicant)");
+            }
+            addColumn("applications", "applied_at BIGINT");
+            addColumn("clubs", "capacity INT DEFAULT 0");
+            addColumn("clubs", "member_count INT DEFAULT 0");
+            addColumn("applications", "priority BOOLEAN DEFAULT FALSE");
+            addColumn("applications", "score INT DEFAULT 0");
+            backfillAppliedAt();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized Club findByName(String name) {
+        List<Club> result = query("SELECT name, president, description, capacity, member_count FROM clubs WHERE name = ?", name);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    @Override
+    public synchronized List<Club> findAll() {
+        return query("SELECT name, president, description, capacity, member_count FROM clubs ORDER BY name");
+    }
+
+    @Override
+    public synchronized List<Club> findPage(int offset, int limit) {
+        return query("SELECT name, president, description, capacity, member_count FROM clubs ORDER BY name LIMIT ? OFFSET ?", limit, offset);
+    }
+
+    /**
+     * 모든 동아리를 이름 순서로 {@link #FOREACH_PAGE_SIZE}개씩 나누어 읽어 처리합니다.
+     * <p>
+     * OFFSET은 앞의 행을 매번 다시 건너뛰므로, 직전 페이지의 마지막 이름 다음부터 기본 키 인덱스로 바로 찾아 읽습니다.
+     * 페이지를 읽는 동안만 저장소를 잠그므로 동작 안에서 저장소를 다시 호출해도 됩니다.
+     * </p>
+     *
+     * @param action 각 동아리에 수행할 동작
+     */
+    @Override
+    public void forEach(Consumer<Club> action) {
+        String after = null;
+        while (true) {
+            List<Club> page = findPageAfter(after, FOREACH_PAGE_SIZE);
+            page.forEach(action);
+            if (page.size() < FOREACH_PAGE_SIZE) return;
+            after = page.get(page.size() - 1).getName();
+        }
+    }
+
+    @Override
+    public synchronized List<Club> findByPresident(String president) {
+        return query("SELECT name, president, description, capacity, member_count FROM clubs WHERE president = ? ORDER BY name", president);
+    }
+
+    @Override
+    public synchronized List<Club> findByApplicant(String applicantName) {
+        return query("SELECT name, president, description, capacity, member_count FROM clubs WHERE name IN "
+                + "(SELECT club_name FROM applications WHERE applicant = ?) ORDER BY name", applicantName);
+    }
+
+    /**
+     * 회장과 신청자 열에는 시작할 때 만든 인덱스(idx_clubs_president, idx_applications_applicant)가 있습니다.
+     */
+    @Override
+    public boolean isIndexed(String field) {
+        return INDEX_PRESIDENT.equals(field) || INDEX_APPLICANT.equals(field);
+    }
+
+    /**
+     * 가입 신청서는 applications 테이블에 저장됩니다.
+     */
+    @Override
+    public boolean persistsApplications() {
+        return true;
+    }
+
+    /**
+     * 동아리와 가입 신청서를 하나의 트랜잭션으로 저장합니다.
+     * <p>
+     * 이 저장소에서 읽어 온 동아리는 읽은 뒤에 바뀐 부분만 행 단위로 반영합니다.
+     * <ul>
+     *   <li>동아리 행: 회장, 설명, 정원을 덮어쓰고 회원 수는 읽은 뒤 늘어나거나 줄어든 만큼 더합니다.</li>
+     *   <li>신청서 행: 새로 추가된 신청서만 삽입하고, 승인·거절·만료로 빠진 신청서만 삭제합니다.
+     *       다른 곳에서 그사이 추가한 신청서는 건드리지 않습니다.</li>
+     * </ul>
+     * 그사이 동아리가 삭제되었으면 다시 만들지 않습니다.
+     * 새로 만든 동아리나 다른 곳에서 만든 객체는 같은 이름의 동아리 행과 신청서 행을 지운 뒤 다시 삽입합니다.
+     * 저장에 실패하면 트랜잭션을 롤백하고 에러 메시지를 출력합니다.
+     * </p>
+     *
+     * @param club 저장할 동아리 객체
+     */
+    @Override
+    public synchronized void save(Club club) {
+        Snapshot base = snapshots.get(club);
+        Snapshot current = new Snapshot(club);
+        try {
+            connection.setAutoCommit(false);
+            if (base == null) {
+                replaceRows(club, current);
+            } else if (!updateRows(club, base, current)) {
+                connection.rollback();
+                System.out.println("[INFO] '" + club.getName() + "' 동아리가 이미 삭제되어 변경 사항을 저장하지 않았습니다.");
+                return;
+            }
+            connection.commit();
+            snapshots.put(club, current);
+        } catch (SQLException e) {
+            rollback();
+            System.out.println("[ERROR] 동아리 데이터를 데이터베이스에 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            resetAutoCommit();
+        }
+    }
+
+    @Override
+    public synchronized boolean delete(String name) {
+        try {
+            connection.setAutoCommit(false);
+            boolean deleted = deleteRows(name);
+            connection.commit();
+            return deleted;
+        } catch (SQLException e) {
+            rollback();
+            System.out.println("[ERROR] 동아리 데이터를 데이터베이스에서 삭제하는 중 오류가 발생했습니다: " + e.getMessage());
+            return false;
+        } finally {
+            resetAutoCommit();
+        }
+    }
+
+    @Override
+    public synchronized int count() {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM clubs")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            System.out.println("[ERROR] 동아리 수를 조회하는 중 오류가 발생했습니다: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public void flush() {
+        // 모든 변경은 save/delete 시점에 커밋됩니다.
+    }
+
+    /**
+     * 주어진 이름 다음부터 이름 순서로 동아리를 조회합니다.
+     *
+     * @param after 직전 페이지의 마지막 동아리 이름. null이면 처음부터
+     * @param limit 최대 조회 개수
+     * @return {@link Club} 객체의 리스트
+     */
+    private synchronized List<Club> findPageAfter(String after, int limit) {
+        if (after == null) {
+            return query("SELECT name, president, description, capacity, member_count FROM clubs ORDER BY name LIMIT ?", limit);
+        }
+        return query("SELECT name, president, description, capacity, member_count FROM clubs WHERE name > ? ORDER BY name LIMIT ?",
+                after, limit);
+    }
+
+    /**
+     * 같은 이름의 동아리 행과 신청서 행을 지우고 현재 상태로 다시 삽입합니다.
+     *
+     * @param club 저장할 동아리 객체
+     * @param current 저장할 회원 수와 신청서
+     * @throws SQLException 저장에 실패한 경우
+     */
+    private void replaceRows(Club club, Snapshot current) throws SQLException {
+        deleteRows(club.getName());
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO clubs (name, president, description, capacity, member_count) VALUES (?, ?, ?, ?, ?)")) {
+            ps.setString(1, club.getName());
+            ps.setString(2, club.getPresident());
+            ps.setString(3, club.getDescription());
+            ps.setInt(4, club.getCapacity());
+            ps.setInt(5, current.memberCount);
+            ps.executeUpdate();
+        }
+        insertApplications(club.getName(), 0, current.applications.values());
+    }
+
+    /**
+     * 읽어 온 뒤에 바뀐 부분만 동아리 행과 신청서 행에 반영합니다.
+     *
+     * @param club 저장할 동아리 객체
+     * @param base 읽어 올 때의 회원 수와 신청서
+     * @param current 저장할 회원 수와 신청서
+     * @return 동아리 행이 있어 반영했으면 true, 그사이 삭제되었으면 false
+     * @throws SQLException 저장에 실패한 경우
+     */
+    private boolean updateRows(Club club, Snapshot base, Snapshot current) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "UPDATE clubs SET president = ?, description = ?, capacity = ?, "
+                        + "member_count = member_count + ? WHERE name = ?")) {
+            ps.setString(1, club.getPresident());
+            ps.setString(2, club.getDescription());
+            ps.setInt(3, club.getCapacity());
+            ps.setInt(4, current.memberCount - base.memberCount);
+            ps.setString(5, club.getName());
+            if (ps.executeUpdate() == 0) return false;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "DELETE FROM applications WHERE club_name = ? AND applicant = ? AND applied_at = ?")) {
+            int removed = 0;
+            for (Member member : base.applications.values()) {
+                if (current.applications.containsKey(member.getKey())) continue;
+                ps.setString(1, club.getName());
+                ps.setString(2, member.getName());
+                ps.setLong(3, member.getAppliedAt());
+                ps.addBatch();
+                removed++;
+            }
+            if (removed > 0) ps.executeBatch();
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "UPDATE applications SET priority = ?, score = ? WHERE club_name = ? AND applicant = ? AND applied_at = ?")) {
+            int rated = 0;
+            for (Member member : current.applications.values()) {
+                Member before = base.applications.get(member.getKey());
+                if (before == null || (before.isPriority() == member.isPriority() && before.getScore() == member.getScore())) {
+                    continue;
+                }
+                ps.setBoolean(1, member.isPriority());
+                ps.setInt(2, member.getScore());
+                ps.setString(3, club.getName());
+                ps.setString(4, member.getName());
+                ps.setLong(5, member.getAppliedAt());
+                ps.addBatch();
+                rated++;
+            }
+            if (rated > 0) ps.executeBatch();
+        }
+        List<Member> added = new ArrayList<>();
+        for (Member member : current.applications.values()) {
+            if (!base.applications.containsKey(member.getKey())) added.add(member);
+        }
+        if (!added.isEmpty()) {
+            insertApplications(club.getName(), nextSeq(club.getName()), added);
+        }
+        return true;
+    }
+
+    /**
+     * 신청서 행을 seq 순서대로 삽입합니다.
+     *
+     * @param clubName 동아리 이름
+     * @param seq 첫 신청서의 순번
+     * @param members 삽입할 신청서
+     * @throws SQLException 삽입에 실패한 경우
+     */
+    private void insertApplications(String clubName, int seq, Iterable<Member> members) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO applications (club_name, seq, applicant, application_text, applied_at, priority, score) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            boolean any = false;
+            for (Member member : members) {
+                ps.setString(1, clubName);
+                ps.setInt(2, seq++);
+                ps.setString(3, member.getName());
+                ps.setString(4, member.getApplicationText());
+                ps.setLong(5, member.getAppliedAt());
+                ps.setBoolean(6, member.isPriority());
+                ps.setInt(7, member.getScore());
+                ps.addBatch();
+                any = true;
+            }
+            if (any) ps.executeBatch();
+        }
+    }
+
+    /**
+     * 동아리에 새로 삽입할 신청서의 순번을 반환합니다.
+     *
+     * @param clubName 동아리 이름
+     * @return 가장 큰 순번보다 1 큰 값. 신청서가 없으면 0
+     * @throws SQLException 조회에 실패한 경우
+     */
+    private int nextSeq(String clubName) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT MAX(seq) FROM applications WHERE club_name = ?")) {
+            ps.setString(1, clubName);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return 0;
+                int max = rs.getInt(1);
+                return rs.wasNull() ? 0 : max + 1;
+            }
+        }
+    }
+
+    /**
+     * 동아리 행과 해당 동아리의 신청서 행을 삭제합니다.
+     *
+     * @param name 동아리 이름
+     * @return 동아리 행이 삭제되었으면 true
+     * @throws SQLException 삭제에 실패한 경우
+     */
+    private boolean deleteRows(String name) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM applications WHERE club_name = ?")) {
+            ps.setString(1, name);
+            ps.executeUpdate();
+        }
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM clubs WHERE name = ?")) {
+            ps.setString(1, name);
+            return ps.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * 동아리 행을 조회하고 각 동아리의 가입 신청서를 함께 읽어옵니다.
+     * <p>
+     * 신청서는 동아리마다 따로 조회하지 않고 {@link #APPLICATION_BATCH_SIZE}개 동아리씩
+     * "club_name IN (...)" 조회 한 번으로 읽어 동아리별로 나눕니다.
+     * </p>
+     *
+     * @param sql name, president, description, capacity, member_count 열을 반환하는 조회문
+     * @param params 조회문 매개변수
+     * @return {@link Club} 객체의 리스트. 조회에 실패하면 빈 리스트
+     */
+    private List<Club> query(String sql, Object... params) {
+        Map<String, Club> clubs = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Club club = new Club(rs.getString(1), rs.getString(2), rs.getString(3), rs.getInt(4), rs.getInt(5));
+                    clubs.put(club.getName(), club);
+                }
+            }
+            List<String> names = new ArrayList<>(clubs.keySet());
+            for (int from = 0; from < names.size(); from += APPLICATION_BATCH_SIZE) {
+                loadApplications(clubs, names.subList(from, Math.min(names.size(), from + APPLICATION_BATCH_SIZE)));
+            }
+            for (Club club : clubs.values()) {
+                snapshots.put(club, new Snapshot(club));
+            }
+        } catch (SQLException e) {
+            System.out.println("[ERROR] 동아리 데이터를 데이터베이스에서 조회하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return new ArrayList<>(clubs.values());
+    }
+
+    /**
+     * 여러 동아리의 가입 신청서를 한 번의 조회로 읽어 각 동아리에 추가합니다.
+     *
+     * @param clubs 이름별 동아리
+     * @param names 신청서를 읽을 동아리 이름
+     * @throws SQLException 조회에 실패한 경우
+     */
+    private void loadApplications(Map<String, Club> clubs, List<String> names) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT club_name, applicant, application_text, applied_at, priority, score FROM applications "
+                        + "WHERE club_name IN (" + placeholders + ") ORDER BY club_name, seq")) {
+            for (int i = 0; i < names.size(); i++) {
+                ps.setString(i + 1, names.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                Club club = null;
+                while (rs.next()) {
+                    String clubName = rs.getString(1);
+                    if (club == null || !club.getName().equals(clubName)) {
+                        club = clubs.get(clubName);
+                    }
+                    club.addPendingApplication(new Member(rs.getString(2), rs.getString(3), rs.getLong(4),
+                            rs.getBoolean(5), rs.getInt(6)));
+                }
+            }
+        }
+    }
+
+    /**
+     * 이전 버전의 데이터베이스에 없던 열(applied_at, capacity 등)을 추가합니다.
+     * 이미 열이 있으면 데이터베이스가 오류를 반환하므로 무시합니다.
+     *
+     * @param table 테이블 이름
+     * @param column 열 정의 (예: "applied_at BIGINT")
+     */
+    private void addColumn(String table, String column) {
+        try (Statement st = connection.createStatement()) {
+            st.executeUpdate("ALTER TABLE " + table + " ADD COLUMN " + column);
+        } catch (SQLException ignored) {
+            // 이미 열이 있는 경우
+        }
+    }
+
+    /**
+     * applied_at 열이 없던 이전 버전의 신청서 행에 신청 시각을 한 번만 채워 넣습니다.
+     * <p>
+     * 신청 시각은 {@link Member#getKey()}와 처리 기한 계산에 쓰이므로 조회할 때마다 바뀌면 안 됩니다.
+     * 실제 신청 시각은 알 수 없으므로 처음 업그레이드한 시각을 기록하며, 처리 기한도 그때부터 셉니다.
+     * </p>
+     *
+     * @throws SQLException 갱신에 실패한 경우
+     */
+    private void backfillAppliedAt() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "UPDATE applications SET applied_at = ? WHERE applied_at IS NULL")) {
+            ps.setLong(1, System.currentTimeMillis());
+            int updated = ps.executeUpdate();
+            if (updated > 0) {
+                System.out.println("[INFO] 신청 시각이 없는 가입 신청 " + updated + "건에 현재 시각을 기록했습니다.");
+            }
+        }
+    }
+
+    /**
+     * 동아리 객체의 한 시점의 회원 수와 신청서(키별 복사본)입니다.
+     * 신청서의 선발 기준 값은 바뀔 수 있으므로 객체를 복사해 둡니다.
+     */
+    private static final class Snapshot {
+        final int memberCount;
+        final Map<String, Member> applications = new LinkedHashMap<>();
+
+        Snapshot(Club club) {
+            memberCount = club.getMemberCount();
+            for (Member member : club.getPendingApplications()) {
+                applications.putIfAbsent(member.getKey(), new Member(member.getName(), member.getApplicationText(),
+                        member.getAppliedAt(), member.isPriority(), member.getScore()));
+            }
+        }
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // 롤백 실패는 원래 오류 메시지로 대신합니다.
+        }
+    }
+
+    private void resetAutoCommit() {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException ignored) {
+            // 다음 트랜잭션 시작 시 다시 설정됩니다.
+        }
+    }
+}
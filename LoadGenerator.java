@@ -0,0 +1,187 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학기 초 가입 신청 몰림 상황을 재현하는 부하 생성기
+ * <p>
+ * 동아리 N개와 학생 계정 M개를 만든 뒤, 여러 스레드에서 가상의 학생들이 동시에
+ * {@link ClubManager#getClub(String)}, {@link Club#addPendingApplication(Member)},
+ * {@link Club#approveApplication(String)}을 설정한 비율로 호출합니다.
+ * 종료 후 처리량, 지연 시간 분위수(p50/p99/p999), 힙 증가량, GC 횟수와 시간을 출력합니다.
+ * </p>
+ *
+ * <p>
+ * 실행 예:
+ * <pre>
+ * java LoadGenerator --clubs=1000 --students=20000 --threads=500 --ops=50 --mix=60:30:10
+ * </pre>
+ * <ul>
+ *   <li>--clubs: 생성할 동아리 수 (기본값 1000)</li>
+ *   <li>--students: 가상 학생 수 (기본값 10000)</li>
+ *   <li>--threads: 동시에 실행할 스레드 수 (기본값 200)</li>
+ *   <li>--ops: 학생 한 명이 수행하는 작업 수 (기본값 20)</li>
+ *   <li>--mix: 조회:신청:승인 비율 (기본값 70:20:10)</li>
+ * </ul>
+ * 저장소는 {@code club.repository} 시스템 속성으로 선택하며, 기본값은 "memory"입니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LoadGenerator {
+    private static final String[] OPERATIONS = {"조회", "신청", "승인"};
+
+    /**
+     * 부하 생성기의 진입점입니다.
+     *
+     * @param args "--이름=값" 형식의 옵션
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parseOptions(args);
+        int clubCount = Integer.parseInt(options.getOrDefault("clubs", "1000"));
+        int studentCount = Integer.parseInt(options.getOrDefault("students", "10000"));
+        int threadCount = Integer.parseInt(options.getOrDefault("threads", "200"));
+        int opsPerStudent = Integer.parseInt(options.getOrDefault("ops", "20"));
+        int[] mix = parseMix(options.getOrDefault("mix", "70:20:10"));
+
+        ClubManager clubManager = new ClubManager(ClubRepository.create(System.getProperty("club.repository", "memory")));
+        String[] clubNames = new String[clubCount];
+        for (int i = 0; i < clubCount; i++) {
+            clubNames[i] = "동아리" + i;
+            clubManager.addClub(new Club(clubNames[i], "회장" + i, "부하 테스트용 동아리 " + i));
+        }
+        String[] studentIds = new String[studentCount];
+        for (int i = 0; i < studentCount; i++) {
+            studentIds[i] = "student" + i;
+        }
+
+        LogLinearHistogram[] histograms = new LogLinearHistogram[OPERATIONS.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LogLinearHistogram();
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long[] gcBefore = gcTotals();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(studentCount);
+        long start = System.nanoTime();
+        for (String studentId : studentIds) {
+            executor.execute(() -> {
+                try {
+                    runStudent(studentId, clubManager, clubNames, studentIds, opsPerStudent, mix, histograms);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        long[] gcAfter = gcTotals();
+
+        long totalOps = 0;
+        LogLinearHistogram all = new LogLinearHistogram();
+        for (LogLinearHistogram histogram : histograms) {
+            totalOps += histogram.count();
+            all.add(histogram);
+        }
+
+        System.out.printf("동아리 %d개, 학생 %d명, 스레드 %d개, 학생당 작업 %d회, 비율 %d:%d:%d%n",
+                clubCount, studentCount, threadCount, opsPerStudent, mix[0], mix[1], mix[2]);
+        System.out.printf("총 작업: %d, 소요 시간: %.3f초, 처리량: %.0f ops/s%n",
+                totalOps, elapsed / 1e9, totalOps / (elapsed / 1e9));
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            print(OPERATIONS[i], histograms[i]);
+        }
+        print("전체", all);
+        System.out.printf("힙 증가량: %.1f MB (%.1f MB -> %.1f MB)%n",
+                (heapAfter - heapBefore) / 1048576.0, heapBefore / 1048576.0, heapAfter / 1048576.0);
+        System.out.printf("GC: %d회, %d ms%n", gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+    }
+
+    /**
+     * 가상 학생 한 명의 작업을 수행합니다.
+     */
+    private static void runStudent(String studentId, ClubManager clubManager, String[] clubNames, String[] studentIds,
+                                   int ops, int[] mix, LogLinearHistogram[] histograms) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int total = mix[0] + mix[1] + mix[2];
+        for (int i = 0; i < ops; i++) {
+            String clubName = clubNames[random.nextInt(clubNames.length)];
+            int pick = random.nextInt(total);
+            int op = pick < mix[0] ? 0 : pick < mix[0] + mix[1] ? 1 : 2;
+
+            long t0 = System.nanoTime();
+            Club club = clubManager.getClub(clubName);
+            if (club != null && op == 1) {
+                club.addPendingApplication(new Member(studentId, "가입 신청합니다. (" + i + ")"));
+                clubManager.updateClub(club);
+            } else if (club != null && op == 2) {
+                if (club.approveApplication(studentIds[random.nextInt(studentIds.length)]) != null) {
+                    clubManager.updateClub(club);
+                }
+            }
+            histograms[op].record(System.nanoTime() - t0);
+        }
+    }
+
+    private static void print(String label, LogLinearHistogram histogram) {
+        System.out.printf("  %-4s %10d회  p50 %8.1f us  p99 %8.1f us  p999 %8.1f us  max %8.1f us%n",
+                label, histogram.count(),
+                histogram.percentile(0.50) / 1e3, histogram.percentile(0.99) / 1e3,
+                histogram.percentile(0.999) / 1e3, histogram.max() / 1e3);
+    }
+
+    /**
+     * 모든 가비지 컬렉터의 누적 {횟수, 시간(ms)}을 반환합니다.
+     */
+    private static long[] gcTotals() {
+        long count = 0, time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[]{count, time};
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private static int[] parseMix(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("--mix는 조회:신청:승인 형식이어야 합니다: " + value);
+        }
+        int[] mix = new int[3];
+        for (int i = 0; i < 3; i++) {
+            mix[i] = Integer.parseInt(parts[i].trim());
+        }
+        if (mix[0] + mix[1] + mix[2] <= 0) {
+            throw new IllegalArgumentException("--mix의 합은 0보다 커야 합니다: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,133 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그-선형 히스토그램 (스트리밍 분위수 스케치)
+ * <p>
+ * 양의 정수 값을 2의 거듭제곱 구간마다 16개의 하위 구간으로 나누어 셉니다(상대 오차 약 6%).
+ * 기록한 값의 개수와 관계없이 크기가 고정되어 있으므로, 분위수 조회 비용도 일정합니다.
+ * 여러 스레드가 잠금 없이 동시에 기록할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 사용처:
+ * <ul>
+ *   <li>{@link LoadGenerator}: 작업별 지연 시간(나노초)</li>
+ *   <li>{@link RecruitmentAnalytics}: 가입 신청부터 승인까지 걸린 시간(초)</li>
+ * </ul>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class LogLinearHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final AtomicLongArray buckets;
+
+    /**
+     * 64비트 전체 범위를 담는 히스토그램을 만듭니다.
+     */
+    LogLinearHistogram() {
+        this(63);
+    }
+
+    /**
+     * 2^maxExponent 미만의 값을 구분하는 히스토그램을 만듭니다. 그보다 큰 값은 마지막 구간에 셉니다.
+     *
+     * @param maxExponent 구분할 최대 지수 (0~63)
+     */
+    LogLinearHistogram(int maxExponent) {
+        this.buckets = new AtomicLongArray((maxExponent + 1) * SUB_BUCKETS);
+    }
+
+    void record(long value) {
+        buckets.incrementAndGet(Math.min(buckets.length() - 1, indexOf(Math.max(1, value))));
+    }
+
+    void add(LogLinearHistogram other) {
+        for (int i = 0; i < Math.min(buckets.length(), other.buckets.length()); i++) {
+            buckets.addAndGet(i, other.buckets.get(i));
+        }
+    }
+
+    long count() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    long percentile(double p) {
+        long total = count();
+        if (total == 0) return 0;
+        long target = (long) Math.ceil(total * p);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target) return upperBound(i);
+        }
+        return upperBound(buckets.length() - 1);
+    }
+
+    long max() {
+        for (int i = buckets.length() - 1; i >= 0; i--) {
+            if (buckets.get(i) > 0) return upperBound(i);
+        }
+        return 0;
+    }
+
+    /**
+     * 비어 있지 않은 구간을 "구간 번호:개수" 형식으로 쉼표로 이어 반환합니다. 파일에 저장할 때 사용합니다.
+     *
+     * @return 인코딩된 문자열
+     */
+    String encode() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < buckets.length(); i++) {
+            long count = buckets.get(i);
+            if (count > 0) {
+                if (sb.length() > 0) sb.append(',');
+                sb.append(i).append(':').append(count);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * {@link #encode()}로 만든 문자열의 개수를 이 히스토그램에 더합니다.
+     *
+     * @param encoded 인코딩된 문자열
+     * @throws NumberFormatException 형식이 잘못된 경우
+     */
+    void decode(String encoded) {
+        if (encoded.isEmpty()) return;
+        for (String pair : encoded.split(",")) {
+            int colon = pair.indexOf(':');
+            int index = Integer.parseInt(pair.substring(0, colon));
+            if (index >= 0 && index < buckets.length()) {
+                buckets.addAndGet(index, Long.parseLong(pair.substring(colon + 1)));
+            }
+        }
+    }
+
+    private static int indexOf(long value) {
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent < SUB_BITS) {
+            return (int) value;
+        }
+        int sub = (int) ((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+        return exponent * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        int exponent = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (exponent < SUB_BITS) {
+            return index;
+        }
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,70 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 우편함 디렉터리 알림 전달 수단
+ * <p>
+ * 학생마다 "mailbox/학생이름.txt" 파일을 두고 알림을 한 줄씩 덧붙입니다.
+ * 한 묶음 안에서 같은 학생에게 가는 알림은 파일을 한 번만 열어 기록합니다.
+ * 테스트나 메일 서버가 없는 환경에서 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 줄 형식: "[yyyy-MM-dd HH:mm] (#알림 번호) 내용"
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class MailboxNotificationSink implements NotificationSink {
+    static final String DEFAULT_DIRECTORY = "mailbox";
+
+    private final File directory;
+
+    /**
+     * {@link MailboxNotificationSink} 객체를 초기화합니다.
+     *
+     * @param directory 우편함 파일을 둘 디렉터리
+     */
+    public MailboxNotificationSink(String directory) {
+        this.directory = new File(directory);
+    }
+
+    @Override
+    public void deliver(List<NotificationOutbox.Notification> batch) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("디렉터리를 만들 수 없습니다: " + directory);
+        }
+        Map<String, StringBuilder> byRecipient = new LinkedHashMap<>();
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        for (NotificationOutbox.Notification notification : batch) {
+            byRecipient.computeIfAbsent(notification.recipient, k -> new StringBuilder())
+                    .append('[').append(format.format(new Date(notification.createdAt))).append("] (#")
+                    .append(notification.id).append(") ").append(notification.message).append(System.lineSeparator());
+        }
+        for (Map.Entry<String, StringBuilder> entry : byRecipient.entrySet()) {
+            File mailbox = new File(directory, fileName(entry.getKey()));
+            try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(mailbox, true), StandardCharsets.UTF_8))) {
+                bw.write(entry.getValue().toString());
+            }
+        }
+    }
+
+    /**
+     * 학생 이름에서 파일 이름에 쓸 수 없는 문자를 '_'로 바꿉니다.
+     */
+    private static String fileName(String recipient) {
+        return recipient.replaceAll("[\\\\/:*?\"<>|\\s]", "_") + ".txt";
+    }
+}
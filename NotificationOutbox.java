@@ -0,0 +1,311 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가입 승인·거절 알림 아웃박스
+ * <p>
+ * 동아리 회장이 신청서를 승인하거나 거절하면 {@link #enqueue(String, String, String, String)}로 알림을 아웃박스 파일에
+ * 먼저 기록하고, 백그라운드 전달 스레드가 이를 모아 {@link NotificationSink}로 전달합니다.
+ * 기록이 끝난 알림은 프로그램이 종료되어도 다음 실행 때 다시 전달되므로(최소 한 번 전달),
+ * 수천 건을 한꺼번에 승인해도 GUI는 전달을 기다리지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 동작 방식:
+ * <ul>
+ *   <li>아웃박스 파일("outbox/outbox.log")에는 등록(E), 전달 완료(D), 포기(X) 줄을 덧붙입니다.
+ *       시작 시 완료·포기되지 않은 알림을 다시 읽고, 남은 알림만으로 파일을 새로 씁니다.</li>
+ *   <li>전달 스레드는 전달할 때가 된 알림을 최대 {@link #BATCH_SIZE}개씩 모아 한 번에 전달합니다.</li>
+ *   <li>전달에 실패하면 1초부터 두 배씩(최대 10분, ±20% 무작위) 늦춰 다시 시도하고,
+ *       {@link #MAX_ATTEMPTS}번 실패하면 포기하고 에러 메시지를 출력합니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 참고: 동아리 데이터와 아웃박스는 서로 다른 파일이므로 하나의 트랜잭션으로 묶이지는 않습니다.
+ * 승인 처리 직후 같은 스레드에서 아웃박스에 기록하므로, 기록이 끝난 승인은 알림이 유실되지 않습니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class NotificationOutbox {
+    static final String DEFAULT_DIRECTORY = "outbox";
+    static final int BATCH_SIZE = 256;
+    static final int MAX_ATTEMPTS = 12;
+    static final long BASE_BACKOFF_MILLIS = 1_000;
+    static final long MAX_BACKOFF_MILLIS = 10 * 60 * 1_000;
+
+    /**
+     * 알림 레코드
+     */
+    static class Notification implements Delayed {
+        final long id;
+        final long createdAt;
+        final String type;
+        final String club;
+        final String recipient;
+        final String message;
+        int attempts;
+        long nextAttemptAt;
+
+        Notification(long id, long createdAt, String type, String club, String recipient, String message) {
+            this.id = id;
+            this.createdAt = createdAt;
+            this.type = type;
+            this.club = club;
+            this.recipient = recipient;
+            this.message = message;
+            this.nextAttemptAt = System.currentTimeMillis();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(nextAttemptAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            Notification that = (Notification) other;
+            return nextAttemptAt != that.nextAttemptAt
+                    ? Long.compare(nextAttemptAt, that.nextAttemptAt) : Long.compare(id, that.id);
+        }
+    }
+
+    private final File logFile;
+    private final NotificationSink sink;
+    private final DelayQueue<Notification> queue = new DelayQueue<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Object logLock = new Object();
+    private BufferedWriter log;
+    private Thread dispatcher;
+
+    /**
+     * 아웃박스를 열고 아직 전달되지 않은 알림을 다시 읽어 옵니다.
+     *
+     * @param directory 아웃박스 파일을 둘 디렉터리
+     * @param sink 알림 전달 수단
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public NotificationOutbox(String directory, NotificationSink sink) {
+        this.logFile = new File(directory, "outbox.log");
+        this.sink = sink;
+        recover();
+    }
+
+    /**
+     * 시스템 속성으로 설정한 아웃박스를 엽니다.
+     * <p>
+     * {@code club.outbox.dir}(기본값 "outbox")에 아웃박스를 두고,
+     * {@code club.mailbox.dir}(기본값 "mailbox")의 우편함으로 알림을 전달합니다.
+     * </p>
+     *
+     * @return {@link NotificationOutbox} 객체
+     */
+    static NotificationOutbox fromSystemProperties() {
+        return new NotificationOutbox(System.getProperty("club.outbox.dir", DEFAULT_DIRECTORY),
+                new MailboxNotificationSink(System.getProperty("club.mailbox.dir", MailboxNotificationSink.DEFAULT_DIRECTORY)));
+    }
+
+    /**
+     * 전달 스레드를 데몬 스레드로 시작합니다.
+     */
+    public synchronized void start() {
+        if (dispatcher != null) return;
+        dispatcher = new Thread(this::dispatchLoop, "notification-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * 알림을 아웃박스에 기록하고 전달 대기열에 넣습니다.
+     * <p>
+     * 아웃박스 파일에 기록한 뒤에 반환하며, 기록에 실패하면 에러 메시지를 출력하고 메모리 대기열에만 넣습니다.
+     * </p>
+     *
+     * @param type 알림 종류 (예: "승인", "거절")
+     * @param club 동아리 이름
+     * @param recipient 받을 학생 이름
+     * @param message 알림 내용
+     * @return 등록된 알림
+     */
+    public Notification enqueue(String type, String club, String recipient, String message) {
+        Notification notification = new Notification(nextId.getAndIncrement(), System.currentTimeMillis(),
+                type, club, recipient, message);
+        append(entryLine(notification));
+        queue.add(notification);
+        return notification;
+    }
+
+    /**
+     * 같은 내용의 알림을 여러 학생에게 보내도록 한 번에 기록합니다.
+     * <p>
+     * 아웃박스 파일에는 한 번만 쓰고 비우므로, 자동 선발처럼 많은 학생에게 알릴 때 사용합니다.
+     * </p>
+     *
+     * @param type 알림 종류 (예: "승인")
+     * @param club 동아리 이름
+     * @param recipients 받을 학생 이름 목록
+     * @param message 알림 내용
+     * @return 등록된 알림 목록
+     */
+    public List<Notification> enqueueAll(String type, String club, List<String> recipients, String message) {
+        List<Notification> notifications = new ArrayList<>(recipients.size());
+        if (recipients.isEmpty()) return notifications;
+        long now = System.currentTimeMillis();
+        StringBuilder lines = new StringBuilder();
+        for (String recipient : recipients) {
+            Notification notification = new Notification(nextId.getAndIncrement(), now, type, club, recipient, message);
+            if (lines.length() > 0) lines.append('\n');
+            lines.append(entryLine(notification));
+            notifications.add(notification);
+        }
+        append(lines.toString());
+        queue.addAll(notifications);
+        return notifications;
+    }
+
+    /**
+     * 아직 전달되지 않은 알림 수를 반환합니다.
+     *
+     * @return 대기 중인 알림 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void dispatchLoop() {
+        List<Notification> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                try {
+                    sink.deliver(batch);
+                    StringBuilder done = new StringBuilder();
+                    for (Notification notification : batch) {
+                        done.append("D\t").append(notification.id).append('\n');
+                    }
+                    append(done.substring(0, done.length() - 1));
+                } catch (IOException | RuntimeException e) {
+                    System.out.println("[ERROR] 알림 " + batch.size() + "건을 전달하지 못했습니다: " + e.getMessage());
+                    for (Notification notification : batch) {
+                        retry(notification);
+                    }
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // 전달 종료. 남은 알림은 다음 실행 때 다시 전달됩니다.
+        }
+    }
+
+    private void retry(Notification notification) {
+        notification.attempts++;
+        if (notification.attempts >= MAX_ATTEMPTS) {
+            append("X\t" + notification.id);
+            System.out.println("[ERROR] 알림 #" + notification.id + "(" + notification.recipient + ") 전달을 포기합니다.");
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(notification.attempts - 1, 20));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        notification.nextAttemptAt = System.currentTimeMillis() + (long) (backoff * jitter);
+        queue.add(notification);
+    }
+
+    /**
+     * 아웃박스 파일을 다시 읽어 전달되지 않은 알림을 대기열에 넣고, 남은 알림만으로 파일을 새로 씁니다.
+     */
+    private void recover() {
+        Map<Long, Notification> pending = new LinkedHashMap<>();
+        long maxId = 0;
+        if (logFile.isFile()) {
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                    new FileInputStream(logFile), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    String[] parts = line.split("\t", -1);
+                    try {
+                        long id = Long.parseLong(parts[1]);
+                        maxId = Math.max(maxId, id);
+                        if (parts[0].equals("E") && parts.length == 7) {
+                            pending.put(id, new Notification(id, Long.parseLong(parts[2]), AuditLog.unescape(parts[3]),
+                                    AuditLog.unescape(parts[4]), AuditLog.unescape(parts[5]), AuditLog.unescape(parts[6])));
+                        } else if (parts[0].equals("D") || parts[0].equals("X")) {
+                            pending.remove(id);
+                        }
+                    } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                        // 종료 중에 잘린 마지막 줄은 건너뜁니다.
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("[ERROR] 알림 아웃박스를 읽을 수 없습니다: " + e.getMessage());
+            }
+        }
+        nextId.set(maxId + 1);
+        queue.addAll(pending.values());
+
+        File directory = logFile.getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            System.out.println("[ERROR] 알림 아웃박스 디렉터리를 만들 수 없습니다: " + directory);
+            return;
+        }
+        File temp = new File(logFile.getPath() + ".tmp");
+        try {
+            try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(temp), StandardCharsets.UTF_8))) {
+                for (Notification notification : pending.values()) {
+                    bw.write(entryLine(notification));
+                    bw.write('\n');
+                }
+            }
+            Files.move(temp.toPath(), logFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("[ERROR] 알림 아웃박스를 정리할 수 없습니다: " + e.getMessage());
+        }
+        if (!pending.isEmpty()) {
+            System.out.println("[INFO] 전달되지 않은 알림 " + pending.size() + "건을 다시 전달합니다.");
+        }
+    }
+
+    private static String entryLine(Notification n) {
+        return "E\t" + n.id + "\t" + n.createdAt + "\t" + AuditLog.escape(n.type) + "\t"
+                + AuditLog.escape(n.club) + "\t" + AuditLog.escape(n.recipient) + "\t" + AuditLog.escape(n.message);
+    }
+
+    private void append(String lines) {
+        synchronized (logLock) {
+            try {
+                if (log == null) {
+                    log = new BufferedWriter(new OutputStreamWriter(
+                            new FileOutputStream(logFile, true), StandardCharsets.UTF_8));
+                }
+                log.write(lines);
+                log.write('\n');
+                log.flush();
+            } catch (IOException e) {
+                System.out.println("[ERROR] 알림 아웃박스에 기록할 수 없습니다: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 알림 전달 수단 인터페이스
+ * <p>
+ * {@link NotificationOutbox}의 전달 스레드가 모아 둔 알림을 한 번에 넘겨 줍니다.
+ * 로컬 우편함 디렉터리({@link MailboxNotificationSink}) 외에 메일이나 메신저 어댑터를 구현하여 바꿔 끼울 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 같은 알림이 두 번 이상 전달될 수 있으므로(최소 한 번 전달), 구현체는 {@link NotificationOutbox.Notification#id}로
+ * 중복을 걸러낼 수 있어야 합니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+interface NotificationSink {
+
+    /**
+     * 알림 묶음을 전달합니다.
+     * <p>
+     * 예외가 발생하면 묶음 전체를 실패로 보고 나중에 다시 전달합니다.
+     * </p>
+     *
+     * @param batch 전달할 알림 목록
+     * @throws IOException 전달에 실패한 경우
+     */
+    void deliver(List<NotificationOutbox.Notification> batch) throws IOException;
+}
@@ -0,0 +1,282 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 불변(persistent) 해시 배열 매핑 트라이(HAMT)
+ * <p>
+ * 변경 연산은 기존 맵을 바꾸지 않고 새 맵을 반환하며, 바뀐 경로의 노드만 복사하고 나머지 노드는
+ * 이전 버전과 공유합니다. 따라서 어떤 버전이든 그대로 보관하는 것만으로 O(1) 스냅샷이 되고,
+ * 스냅샷을 읽는 동안 다른 스레드가 새 버전을 만들어도 서로 영향을 주지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 구조:
+ * <ul>
+ *   <li>키의 해시를 5비트씩 잘라 32갈래 노드를 따라 내려갑니다(최대 7단계).</li>
+ *   <li>각 노드는 32비트 비트맵과 실제로 사용하는 칸만 담은 배열을 가집니다.</li>
+ *   <li>해시 32비트가 모두 같은 키들은 충돌 노드에 함께 보관합니다.</li>
+ * </ul>
+ * </p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (null 불가)
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class PersistentHashMap<K, V> {
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * 빈 맵을 반환합니다.
+     *
+     * @param <K> 키 타입
+     * @param <V> 값 타입
+     * @return 빈 맵
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * 키에 해당하는 값을 반환합니다.
+     *
+     * @param key 찾을 키
+     * @return 값. 없으면 null 반환
+     */
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        int hash = hash(key);
+        Node node = root;
+        int shift = 0;
+        while (node != null) {
+            if (node.collision) {
+                for (Object slot : node.slots) {
+                    Entry entry = (Entry) slot;
+                    if (entry.key.equals(key)) return (V) entry.value;
+                }
+                return null;
+            }
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) return null;
+            Object slot = node.slots[index(node.bitmap, bit)];
+            if (slot instanceof Entry) {
+                Entry entry = (Entry) slot;
+                return entry.key.equals(key) ? (V) entry.value : null;
+            }
+            node = (Node) slot;
+            shift += 5;
+        }
+        return null;
+    }
+
+    /**
+     * 키와 값을 추가하거나 교체한 새 맵을 반환합니다.
+     * <p>
+     * 같은 키에 같은 값 객체가 이미 있으면 자기 자신을 반환합니다.
+     * </p>
+     *
+     * @param key 키
+     * @param value 값
+     * @return 변경이 반영된 맵
+     */
+    PersistentHashMap<K, V> put(K key, V value) {
+        boolean exists = get(key) != null;
+        Node newRoot = put(root == null ? Node.EMPTY : root, 0, hash(key), key, value);
+        if (newRoot == root) return this;
+        return new PersistentHashMap<>(newRoot, exists ? size : size + 1);
+    }
+
+    /**
+     * 키를 제거한 새 맵을 반환합니다. 키가 없으면 자기 자신을 반환합니다.
+     *
+     * @param key 제거할 키
+     * @return 변경이 반영된 맵
+     */
+    PersistentHashMap<K, V> remove(K key) {
+        if (root == null) return this;
+        Node newRoot = remove(root, 0, hash(key), key);
+        if (newRoot == root) return this;
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 모든 값을 차례로 처리합니다. 순서는 키의 해시 순서입니다.
+     *
+     * @param action 각 값에 수행할 동작
+     */
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<V> action) {
+        forEach(root, entry -> action.accept((V) entry.value));
+    }
+
+    /**
+     * 모든 값을 리스트로 반환합니다.
+     *
+     * @return 값 리스트
+     */
+    List<V> values() {
+        List<V> values = new ArrayList<>(size);
+        forEachValue(values::add);
+        return values;
+    }
+
+    private static void forEach(Node node, Consumer<Entry> action) {
+        if (node == null) return;
+        for (Object slot : node.slots) {
+            if (slot instanceof Entry) {
+                action.accept((Entry) slot);
+            } else {
+                forEach((Node) slot, action);
+            }
+        }
+    }
+
+    private static Node put(Node node, int shift, int hash, Object key, Object value) {
+        if (node.collision) {
+            for (int i = 0; i < node.slots.length; i++) {
+                Entry entry = (Entry) node.slots[i];
+                if (entry.key.equals(key)) {
+                    return entry.value == value ? node : node.with(i, new Entry(key, value, hash));
+                }
+            }
+            return node.inserted(node.slots.length, 0, new Entry(key, value, hash));
+        }
+        int bit = bit(hash, shift);
+        int index = index(node.bitmap, bit);
+        if ((node.bitmap & bit) == 0) {
+            return node.inserted(index, bit, new Entry(key, value, hash));
+        }
+        Object slot = node.slots[index];
+        if (slot instanceof Node) {
+            Node child = put((Node) slot, shift + 5, hash, key, value);
+            return child == slot ? node : node.with(index, child);
+        }
+        Entry entry = (Entry) slot;
+        if (entry.key.equals(key)) {
+            return entry.value == value ? node : node.with(index, new Entry(key, value, hash));
+        }
+        return node.with(index, merge(entry, new Entry(key, value, hash), shift + 5));
+    }
+
+    private static Node merge(Entry a, Entry b, int shift) {
+        if (shift > 30) {
+            return new Node(0, new Object[]{a, b}, true);
+        }
+        int bitA = bit(a.hash, shift);
+        int bitB = bit(b.hash, shift);
+        if (bitA == bitB) {
+            return new Node(bitA, new Object[]{merge(a, b, shift + 5)}, false);
+        }
+        Object[] slots = Integer.compareUnsigned(bitA, bitB) < 0 ? new Object[]{a, b} : new Object[]{b, a};
+        return new Node(bitA | bitB, slots, false);
+    }
+
+    private static Node remove(Node node, int shift, int hash, Object key) {
+        if (node.collision) {
+            for (int i = 0; i < node.slots.length; i++) {
+                if (((Entry) node.slots[i]).key.equals(key)) {
+                    return node.slots.length == 1 ? null : node.removed(i, 0);
+                }
+            }
+            return node;
+        }
+        int bit = bit(hash, shift);
+        if ((node.bitmap & bit) == 0) return node;
+        int index = index(node.bitmap, bit);
+        Object slot = node.slots[index];
+        if (slot instanceof Node) {
+            Node child = remove((Node) slot, shift + 5, hash, key);
+            if (child == slot) return node;
+            if (child != null) {
+                // 항목 하나만 남은 하위 노드는 항목으로 끌어올려 트리를 얕게 유지합니다.
+                if (child.slots.length == 1 && child.slots[0] instanceof Entry) {
+                    return node.with(index, child.slots[0]);
+                }
+                return node.with(index, child);
+            }
+        } else if (!((Entry) slot).key.equals(key)) {
+            return node;
+        }
+        return node.slots.length == 1 ? null : node.removed(index, bit);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static final class Entry {
+        final Object key;
+        final Object value;
+        final int hash;
+
+        Entry(Object key, Object value, int hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+    }
+
+    private static final class Node {
+        static final Node EMPTY = new Node(0, new Object[0], false);
+
+        final int bitmap;
+        final Object[] slots;
+        final boolean collision;
+
+        Node(int bitmap, Object[] slots, boolean collision) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+            this.collision = collision;
+        }
+
+        Node with(int index, Object slot) {
+            Object[] copy = slots.clone();
+            copy[index] = slot;
+            return new Node(bitmap, copy, collision);
+        }
+
+        Node inserted(int index, int bit, Object slot) {
+            Object[] copy = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            copy[index] = slot;
+            System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+            return new Node(bitmap | bit, copy, collision);
+        }
+
+        Node removed(int index, int bit) {
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+            return new Node(bitmap & ~bit, copy, collision);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모집 통계
+ * <p>
+ * 가입 신청·승인·거절·만료가 일어날 때마다 동아리별 카운터와 전체 카운터를 바로 갱신합니다.
+ * 신청부터 승인까지 걸린 시간은 {@link LogLinearHistogram}에 기록하여 중앙값 등 분위수를 구합니다.
+ * 통계 화면과 CSV 내보내기는 미리 계산된 값을 읽기만 하므로 동아리나 신청서를 다시 훑지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 저장:
+ * <ul>
+ *   <li>누적 카운터와 승인 시간 분포는 통계 파일(기본값 "analytics.txt")에 저장하여 재시작 후에도 이어집니다.
+ *       {@link #start()} 이후에는 변경이 있을 때 {@code club.analytics.saveSeconds}초(기본값 {@value #DEFAULT_SAVE_SECONDS})마다
+ *       저장하므로, 비정상 종료되어도 그 사이의 기록만 잃습니다. 정상 종료 시에도 저장합니다.</li>
+ *   <li>대기 중인 신청 수는 파일에 저장하지 않고, 시작할 때 저장소의 현재 대기 목록으로 다시 계산한 뒤 이후로는 증감만 반영합니다.
+ *       가입 신청서를 보관하지 않는 텍스트 파일 저장소에서는 재시작하면 대기 중인 신청이 사라지므로 0부터 다시 셉니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 참고: 승인률은 처리된 신청(승인 + 거절 + 만료) 중 승인된 비율입니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class RecruitmentAnalytics {
+    static final String DEFAULT_FILE = "analytics.txt";
+    static final long DEFAULT_SAVE_SECONDS = 30;
+    static final String TOTAL = "";
+    static final String CSV_HEADER = "club,submitted,approved,rejected,expired,pending,approval_rate,median_approval_hours,p90_approval_hours";
+
+    /**
+     * 동아리 하나(또는 전체)의 통계
+     */
+    static class Stats {
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong approved = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong expired = new AtomicLong();
+        final AtomicLong pending = new AtomicLong();
+        /** 신청부터 승인까지 걸린 시간(초). 약 34년(2^30초)까지 구분합니다. */
+        final LogLinearHistogram approvalSeconds = new LogLinearHistogram(30);
+
+        /**
+         * 승인률을 반환합니다.
+         *
+         * @return 처리된 신청 중 승인된 비율 (0~1). 처리된 신청이 없으면 0
+         */
+        double approvalRate() {
+            long decided = approved.get() + rejected.get() + expired.get();
+            return decided == 0 ? 0 : (double) approved.get() / decided;
+        }
+
+        /**
+         * 신청부터 승인까지 걸린 시간의 분위수를 시간 단위로 반환합니다.
+         *
+         * @param p 분위 (예: 0.5는 중앙값)
+         * @return 걸린 시간(시간). 승인된 신청이 없으면 0
+         */
+        double approvalHours(double p) {
+            return approvalSeconds.percentile(p) / 3600.0;
+        }
+    }
+
+    private final File file;
+    private final Map<String, Stats> clubs = new ConcurrentHashMap<>();
+    private final Stats total = new Stats();
+    private final long saveIntervalMillis;
+    /** 기록 메서드가 호출될 때마다 증가합니다. 마지막 저장 이후 변경이 있는지 확인하는 데 씁니다. */
+    private final AtomicLong changes = new AtomicLong();
+    private volatile long savedChanges;
+    private Thread saver;
+
+    /**
+     * 통계 파일을 읽어 {@link RecruitmentAnalytics} 객체를 초기화합니다.
+     *
+     * @param fileName 통계 파일 경로
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public RecruitmentAnalytics(String fileName) {
+        this(fileName, TimeUnit.SECONDS.toMillis(DEFAULT_SAVE_SECONDS));
+    }
+
+    /**
+     * 통계 파일을 읽어 {@link RecruitmentAnalytics} 객체를 초기화합니다.
+     *
+     * @param fileName 통계 파일 경로
+     * @param saveIntervalMillis {@link #start()} 이후 주기적으로 저장하는 간격(밀리초)
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public RecruitmentAnalytics(String fileName, long saveIntervalMillis) {
+        this.file = new File(fileName);
+        this.saveIntervalMillis = saveIntervalMillis;
+        load();
+    }
+
+    /**
+     * 시스템 속성 {@code club.analytics.file}(기본값 "analytics.txt")의 통계 파일을 열고,
+     * {@code club.analytics.saveSeconds}(기본값 {@value #DEFAULT_SAVE_SECONDS})를 저장 간격으로 사용합니다.
+     *
+     * @return {@link RecruitmentAnalytics} 객체
+     */
+    static RecruitmentAnalytics fromSystemProperties() {
+        return new RecruitmentAnalytics(System.getProperty("club.analytics.file", DEFAULT_FILE),
+                TimeUnit.SECONDS.toMillis(Long.getLong("club.analytics.saveSeconds", DEFAULT_SAVE_SECONDS)));
+    }
+
+    /**
+     * 변경이 있을 때 주기적으로 통계 파일에 저장하는 데몬 스레드를 시작합니다.
+     */
+    public synchronized void start() {
+        if (saver != null || saveIntervalMillis <= 0) return;
+        saver = new Thread(this::saveLoop, "analytics-saver");
+        saver.setDaemon(true);
+        saver.start();
+    }
+
+    private void saveLoop() {
+        try {
+            while (true) {
+                Thread.sleep(saveIntervalMillis);
+                if (changes.get() != savedChanges) {
+                    save();
+                }
+            }
+        } catch (InterruptedException e) {
+            // 저장 종료
+        }
+    }
+
+    /**
+     * 현재 대기 중인 신청 수를 동아리별로 한 번 계산합니다. 프로그램 시작 시 호출합니다.
+     *
+     * @param clubManager 동아리 목록을 가진 {@link ClubManager}
+     */
+    public void countPending(ClubManager clubManager) {
+        total.pending.set(0);
+        for (Stats stats : clubs.values()) {
+            stats.pending.set(0);
+        }
+        clubManager.forEachClub(club -> {
+            int pending = club.getPendingCount();
+            if (pending > 0) {
+                stats(club.getName()).pending.addAndGet(pending);
+                total.pending.addAndGet(pending);
+            }
+        });
+    }
+
+    /**
+     * 가입 신청을 기록합니다.
+     *
+     * @param clubName 동아리 이름
+     */
+    public void recordApplication(String clubName) {
+        Stats stats = stats(clubName);
+        stats.submitted.incrementAndGet();
+        stats.pending.incrementAndGet();
+        total.submitted.incrementAndGet();
+        total.pending.incrementAndGet();
+        changes.incrementAndGet();
+    }
+
+    /**
+     * 가입 승인을 기록합니다.
+     *
+     * @param clubName 동아리 이름
+     * @param member 승인된 신청서
+     */
+    public void recordApproval(String clubName, Member member) {
+        long seconds = Math.max(0, System.currentTimeMillis() - member.getAppliedAt()) / 1000;
+        Stats stats = stats(clubName);
+        stats.approved.incrementAndGet();
+        stats.pending.decrementAndGet();
+        stats.approvalSeconds.record(seconds);
+        total.approved.incrementAndGet();
+        total.pending.decrementAndGet();
+        total.approvalSeconds.record(seconds);
+        changes.incrementAndGet();
+    }
+
+    /**
+     * 가입 거절을 기록합니다.
+     *
+     * @param clubName 동아리 이름
+     */
+    public void recordRejection(String clubName) {
+        Stats stats = stats(clubName);
+        stats.rejected.incrementAndGet();
+        stats.pending.decrementAndGet();
+        total.rejected.incrementAndGet();
+        total.pending.decrementAndGet();
+        changes.incrementAndGet();
+    }
+
+    /**
+     * 만료된 신청을 기록합니다.
+     *
+     * @param clubName 동아리 이름
+     * @param count 만료된 신청 수
+     */
+    public void recordExpiry(String clubName, int count) {
+        Stats stats = stats(clubName);
+        stats.expired.addAndGet(count);
+        stats.pending.addAndGet(-count);
+        total.expired.addAndGet(count);
+        total.pending.addAndGet(-count);
+        changes.incrementAndGet();
+    }
+
+    /**
+     * 전체 통계를 반환합니다.
+     *
+     * @return 전체 {@link Stats}
+     */
+    public Stats getTotal() {
+        return total;
+    }
+
+    /**
+     * 동아리별 통계를 이름 순서로 반환합니다.
+     *
+     * @return 동아리 이름-통계 맵
+     */
+    public Map<String, Stats> getClubStats() {
+        return new TreeMap<>(clubs);
+    }
+
+    /**
+     * 동아리별 통계와 전체 통계를 CSV 파일로 내보냅니다. 전체 통계는 동아리 이름을 비워 마지막 줄에 씁니다.
+     *
+     * @param target 내보낼 파일
+     * @throws IOException 파일 쓰기 중 오류가 발생한 경우
+     */
+    public void exportCsv(File target) throws IOException {
+        try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(target), StandardCharsets.UTF_8))) {
+            bw.write(CSV_HEADER);
+            bw.write('\n');
+            for (Map.Entry<String, Stats> entry : getClubStats().entrySet()) {
+                writeCsvRow(bw, entry.getKey(), entry.getValue());
+            }
+            writeCsvRow(bw, TOTAL, total);
+        }
+    }
+
+    private static void writeCsvRow(BufferedWriter bw, String clubName, Stats stats) throws IOException {
+        String name = clubName.contains(",") || clubName.contains("\"")
+                ? "\"" + clubName.replace("\"", "\"\"") + "\"" : clubName;
+        bw.write(String.format("%s,%d,%d,%d,%d,%d,%.4f,%.2f,%.2f%n", name, stats.submitted.get(), stats.approved.get(),
+                stats.rejected.get(), stats.expired.get(), stats.pending.get(), stats.approvalRate(),
+                stats.approvalHours(0.5), stats.approvalHours(0.9)));
+    }
+
+    /**
+     * 누적 통계를 통계 파일에 저장합니다. 임시 파일에 쓴 뒤 이름을 바꾸므로 저장 도중 종료되어도 이전 파일이 남습니다.
+     */
+    public synchronized void save() {
+        long version = changes.get(); // 쓰는 도중 들어온 기록은 다음 저장 때 반영됩니다.
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(temp), StandardCharsets.UTF_8))) {
+                for (Map.Entry<String, Stats> entry : clubs.entrySet()) {
+                    Stats stats = entry.getValue();
+                    bw.write(AuditLog.escape(entry.getKey()) + "\t" + stats.submitted.get() + "\t" + stats.approved.get()
+                            + "\t" + stats.rejected.get() + "\t" + stats.expired.get() + "\t" + stats.approvalSeconds.encode());
+                    bw.write('\n');
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            savedChanges = version;
+        } catch (IOException e) {
+            System.out.println("[ERROR] 모집 통계를 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 통계 파일을 읽어 동아리별 통계를 복원하고, 전체 통계는 동아리별 통계의 합으로 계산합니다.
+     */
+    private void load() {
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split("\t", -1);
+                if (parts.length != 6) continue;
+                try {
+                    Stats stats = stats(AuditLog.unescape(parts[0]));
+                    stats.submitted.addAndGet(Long.parseLong(parts[1]));
+                    stats.approved.addAndGet(Long.parseLong(parts[2]));
+                    stats.rejected.addAndGet(Long.parseLong(parts[3]));
+                    stats.expired.addAndGet(Long.parseLong(parts[4]));
+                    stats.approvalSeconds.decode(parts[5]);
+                } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                    System.out.println("[ERROR] 잘못된 모집 통계 줄을 건너뜁니다: " + line);
+                }
+            }
+        } catch (FileNotFoundException e) {
+            // 첫 실행
+        } catch (IOException e) {
+            System.out.println("[ERROR] 모집 통계를 읽을 수 없습니다: " + e.getMessage());
+        }
+        for (Stats stats : clubs.values()) {
+            total.submitted.addAndGet(stats.submitted.get());
+            total.approved.addAndGet(stats.approved.get());
+            total.rejected.addAndGet(stats.rejected.get());
+            total.expired.addAndGet(stats.expired.get());
+            total.approvalSeconds.add(stats.approvalSeconds);
+        }
+    }
+
+    private Stats stats(String clubName) {
+        return clubs.computeIfAbsent(clubName, k -> new Stats());
+    }
+}
@@ -0,0 +1,687 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 지난 학기 동아리 보관소
+ * <p>
+ * 활동이 끝난 동아리와 그 가입 신청서를 학기별 보관 파일로 옮기고 {@link ClubManager}에서는 지웁니다.
+ * 보관 파일은 한 번 쓰면 바꾸지 않으며(읽기 전용), 열 단위(columnar)로 저장하므로
+ * 통계처럼 일부 열만 필요한 조회는 신청서 내용 같은 큰 열을 풀지 않고 여러 학기를 빠르게 훑을 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 파일 형식 ("보관 디렉터리/학기.arc"):
+ * <ul>
+ *   <li>열마다 따로 인코딩한 뒤 Deflate로 압축하고, 파일 끝의 목차에 열 이름·위치·길이·CRC32C를 기록합니다.</li>
+ *   <li>회장·신청자 이름: 사전 인코딩 (중복 없는 이름 목록 + 번호)</li>
+ *   <li>신청 시각: 바로 앞 신청과의 차이(delta)를 zigzag 가변 길이 정수로 기록</li>
+ *   <li>우선 선발 여부: 같은 값이 이어지는 길이(run-length)로 기록</li>
+ *   <li>동아리 소개·신청서 내용: 길이 + UTF-8 바이트를 이어 붙인 텍스트 블록</li>
+ *   <li>정원·회원 수·점수·동아리별 신청 수: 가변 길이 정수</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 실행 예:
+ * <pre>
+ * java SemesterArchive archive 2026-1 [동아리 이름...]   (이름을 생략하면 모든 동아리)
+ * java SemesterArchive report
+ * java SemesterArchive show 2026-1 [동아리 이름]
+ * </pre>
+ * 보관 디렉터리는 {@code club.archive.dir} 시스템 속성(기본값 "archive"),
+ * 저장소는 {@code club.repository} 시스템 속성(기본값 "text")으로 정합니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SemesterArchive {
+    static final String DEFAULT_DIRECTORY = "archive";
+    static final String SUFFIX = ".arc";
+    static final byte[] MAGIC = "CLUBARC1".getBytes(StandardCharsets.US_ASCII);
+
+    static final String CLUB_NAME = "club.name";
+    static final String CLUB_PRESIDENT = "club.president";
+    static final String CLUB_DESCRIPTION = "club.description";
+    static final String CLUB_CAPACITY = "club.capacity";
+    static final String CLUB_MEMBERS = "club.members";
+    static final String CLUB_APPLICATIONS = "club.applications";
+    static final String APP_APPLICANT = "app.applicant";
+    static final String APP_TEXT = "app.text";
+    static final String APP_APPLIED_AT = "app.appliedAt";
+    static final String APP_PRIORITY = "app.priority";
+    static final String APP_SCORE = "app.score";
+
+    private final Path directory;
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    /**
+     * 보관 디렉터리를 사용하는 {@link SemesterArchive} 객체를 초기화합니다.
+     *
+     * @param directory 보관 파일을 둘 디렉터리
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public SemesterArchive(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * 시스템 속성 {@code club.archive.dir}(기본값 "archive")의 보관소를 엽니다.
+     *
+     * @return {@link SemesterArchive} 객체
+     */
+    static SemesterArchive fromSystemProperties() {
+        return new SemesterArchive(System.getProperty("club.archive.dir", DEFAULT_DIRECTORY));
+    }
+
+    /**
+     * 조건에 맞는 동아리를 학기 보관 파일로 옮기고 {@link ClubManager}에서 지웁니다.
+     * <p>
+     * 보관 파일을 임시 파일에 다 쓰고 다시 열어 동아리 수를 확인한 뒤에 이름을 바꾸고,
+     * 그다음에 동아리를 지우므로 중간에 실패해도 동아리가 사라지지 않습니다.
+     * 보관한 동아리가 "실행 취소"로 다시 살아나 보관 파일과 겹치지 않도록 실행 취소/다시 실행 기록을 지웁니다.
+     * 같은 학기의 보관 파일이 이미 있으면 덮어쓰지 않습니다.
+     * </p>
+     *
+     * @param clubManager 동아리를 관리하는 {@link ClubManager}
+     * @param semester 학기 이름 (예: "2026-1"). 영문, 숫자, '.', '_', '-'만 사용할 수 있습니다.
+     * @param closedOut 보관할 동아리를 고르는 조건
+     * @return 보관한 동아리 리스트 (이름 순서)
+     * @throws IllegalArgumentException 학기 이름이 잘못된 경우
+     * @throws FileAlreadyExistsException 같은 학기의 보관 파일이 이미 있는 경우
+     * @throws IOException 파일 쓰기 중 오류가 발생한 경우
+     */
+    public List<Club> archive(ClubManager clubManager, String semester, Predicate<Club> closedOut) throws IOException {
+        if (!semester.matches("[A-Za-z0-9._-]+")) {
+            throw new IllegalArgumentException("학기 이름에는 영문, 숫자, '.', '_', '-'만 사용할 수 있습니다: " + semester);
+        }
+        Path target = file(semester);
+        if (Files.exists(target)) {
+            throw new FileAlreadyExistsException(target.toString());
+        }
+        List<Club> clubs = ClubQuery.clubs().where("보관 대상", closedOut).orderByName().list(clubManager);
+        if (clubs.isEmpty()) return clubs;
+
+        Files.createDirectories(directory);
+        Path temp = Paths.get(target + ".tmp");
+        write(temp, semester, clubs);
+        Segment check = new Segment(temp);
+        if (check.getClubCount() != clubs.size()) {
+            Files.deleteIfExists(temp);
+            throw new IOException("보관 파일 확인에 실패했습니다: " + temp);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        target.toFile().setReadOnly();
+
+        for (Club club : clubs) {
+            clubManager.removeClub(club.getName());
+        }
+        clubManager.clearHistory();
+        clubManager.save();
+        return clubs;
+    }
+
+    /**
+     * 보관된 학기 목록을 이름 순서로 반환합니다.
+     *
+     * @return 학기 이름 리스트
+     */
+    public List<String> semesters() {
+        List<String> result = new ArrayList<>();
+        File[] files = directory.toFile().listFiles((dir, name) -> name.endsWith(SUFFIX));
+        if (files == null) return result;
+        for (File file : files) {
+            String name = file.getName();
+            result.add(name.substring(0, name.length() - SUFFIX.length()));
+        }
+        result.sort(null);
+        return result;
+    }
+
+    /**
+     * 학기 보관 파일을 엽니다. 한 번 연 파일은 목차를 기억해 두고 다시 사용합니다.
+     *
+     * @param semester 학기 이름
+     * @return {@link Segment} 객체
+     * @throws IOException 파일이 없거나 형식이 잘못된 경우
+     */
+    public Segment open(String semester) throws IOException {
+        Segment segment = segments.get(semester);
+        if (segment == null) {
+            segment = new Segment(file(semester));
+            segments.put(semester, segment);
+        }
+        return segment;
+    }
+
+    private Path file(String semester) {
+        return directory.resolve(semester + SUFFIX);
+    }
+
+    /**
+     * 동아리 목록을 열 단위로 인코딩하여 보관 파일을 씁니다.
+     */
+    static void write(Path file, String semester, List<Club> clubs) throws IOException {
+        Map<String, byte[]> columns = new LinkedHashMap<>();
+        List<Member> applications = new ArrayList<>();
+        ColumnWriter names = new ColumnWriter();
+        DictionaryWriter presidents = new DictionaryWriter();
+        ColumnWriter descriptions = new ColumnWriter();
+        ColumnWriter capacities = new ColumnWriter();
+        ColumnWriter members = new ColumnWriter();
+        ColumnWriter counts = new ColumnWriter();
+        for (Club club : clubs) {
+            List<Member> pending = club.getPendingApplications();
+            names.writeString(club.getName());
+            presidents.add(club.getPresident());
+            descriptions.writeString(club.getDescription());
+            capacities.writeVarint(club.getCapacity());
+            members.writeVarint(club.getMemberCount());
+            counts.writeVarint(pending.size());
+            applications.addAll(pending);
+        }
+        columns.put(CLUB_NAME, names.toByteArray());
+        columns.put(CLUB_PRESIDENT, presidents.toByteArray());
+        columns.put(CLUB_DESCRIPTION, descriptions.toByteArray());
+        columns.put(CLUB_CAPACITY, capacities.toByteArray());
+        columns.put(CLUB_MEMBERS, members.toByteArray());
+        columns.put(CLUB_APPLICATIONS, counts.toByteArray());
+
+        DictionaryWriter applicants = new DictionaryWriter();
+        ColumnWriter texts = new ColumnWriter();
+        ColumnWriter appliedAt = new ColumnWriter();
+        ColumnWriter priorities = new ColumnWriter();
+        ColumnWriter scores = new ColumnWriter();
+        long previous = 0;
+        boolean run = false;
+        int runLength = 0;
+        for (Member member : applications) {
+            applicants.add(member.getName());
+            texts.writeString(member.getApplicationText());
+            appliedAt.writeVarlong(zigzag(member.getAppliedAt() - previous));
+            previous = member.getAppliedAt();
+            if (member.isPriority() != run) {
+                priorities.writeVarint(runLength);
+                run = !run;
+                runLength = 0;
+            }
+            runLength++;
+            scores.writeVarlong(zigzag(member.getScore()));
+        }
+        priorities.writeVarint(runLength);
+        columns.put(APP_APPLICANT, applicants.toByteArray());
+        columns.put(APP_TEXT, texts.toByteArray());
+        columns.put(APP_APPLIED_AT, appliedAt.toByteArray());
+        columns.put(APP_PRIORITY, priorities.toByteArray());
+        columns.put(APP_SCORE, scores.toByteArray());
+
+        try (FileOutputStream fos = new FileOutputStream(file.toFile());
+             DataOutputStream out = new DataOutputStream(fos)) {
+            out.write(MAGIC);
+            long offset = MAGIC.length;
+            ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+            DataOutputStream footer = new DataOutputStream(footerBytes);
+            footer.writeUTF(semester);
+            footer.writeLong(System.currentTimeMillis());
+            footer.writeInt(clubs.size());
+            footer.writeInt(applications.size());
+            footer.writeInt(columns.size());
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try {
+                for (Map.Entry<String, byte[]> column : columns.entrySet()) {
+                    byte[] compressed = deflate(deflater, column.getValue());
+                    CRC32C crc = new CRC32C();
+                    crc.update(compressed);
+                    out.write(compressed);
+                    footer.writeUTF(column.getKey());
+                    footer.writeLong(offset);
+                    footer.writeInt(compressed.length);
+                    footer.writeInt(column.getValue().length);
+                    footer.writeInt((int) crc.getValue());
+                    offset += compressed.length;
+                }
+            } finally {
+                deflater.end();
+            }
+            footer.flush();
+            footerBytes.writeTo(out);
+            out.writeInt(footerBytes.size());
+            out.write(MAGIC);
+            out.flush();
+            fos.getFD().sync();
+        }
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] buffer = new byte[1 << 16];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return out.toByteArray();
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 한 학기 보관 파일 (읽기 전용)
+     * <p>
+     * 열을 처음 읽을 때 그 열만 파일에서 읽어 압축을 풀고 CRC32C를 확인합니다.
+     * 열 읽기 메서드는 배열을 새로 만들어 반환하며, 행 순서는 동아리 이름 순서입니다.
+     * 신청서 열의 행은 동아리 순서대로 이어지며, 동아리별 개수는 {@link #applicationCounts()}로 알 수 있습니다.
+     * </p>
+     */
+    static final class Segment {
+        private final Path file;
+        private final String semester;
+        private final long createdAt;
+        private final int clubCount;
+        private final int applicationCount;
+        private final Map<String, long[]> directory = new LinkedHashMap<>();
+
+        Segment(Path file) throws IOException {
+            this.file = file;
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+                long length = raf.length();
+                byte[] magic = new byte[MAGIC.length];
+                if (length < MAGIC.length * 2 + 4) throw new IOException("보관 파일 형식이 아닙니다: " + file);
+                raf.seek(length - MAGIC.length);
+                raf.readFully(magic);
+                if (!Arrays.equals(magic, MAGIC)) throw new IOException("보관 파일 형식이 아닙니다: " + file);
+                raf.seek(length - MAGIC.length - 4);
+                int footerLength = raf.readInt();
+                byte[] footer = new byte[footerLength];
+                raf.seek(length - MAGIC.length - 4 - footerLength);
+                raf.readFully(footer);
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer));
+                semester = in.readUTF();
+                createdAt = in.readLong();
+                clubCount = in.readInt();
+                applicationCount = in.readInt();
+                int columns = in.readInt();
+                for (int i = 0; i < columns; i++) {
+                    String name = in.readUTF();
+                    directory.put(name, new long[]{in.readLong(), in.readInt(), in.readInt(), in.readInt()});
+                }
+            }
+        }
+
+        String getSemester() {
+            return semester;
+        }
+
+        long getCreatedAt() {
+            return createdAt;
+        }
+
+        int getClubCount() {
+            return clubCount;
+        }
+
+        int getApplicationCount() {
+            return applicationCount;
+        }
+
+        /**
+         * 열마다 압축된 크기와 원래 크기를 반환합니다.
+         *
+         * @return 열 이름 - {압축 크기, 원래 크기}
+         */
+        Map<String, int[]> columnSizes() {
+            Map<String, int[]> sizes = new LinkedHashMap<>();
+            for (Map.Entry<String, long[]> entry : directory.entrySet()) {
+                sizes.put(entry.getKey(), new int[]{(int) entry.getValue()[1], (int) entry.getValue()[2]});
+            }
+            return sizes;
+        }
+
+        String[] clubNames() throws IOException {
+            return strings(CLUB_NAME, clubCount);
+        }
+
+        String[] presidents() throws IOException {
+            return dictionary(CLUB_PRESIDENT, clubCount);
+        }
+
+        String[] descriptions() throws IOException {
+            return strings(CLUB_DESCRIPTION, clubCount);
+        }
+
+        int[] capacities() throws IOException {
+            return ints(CLUB_CAPACITY, clubCount, false);
+        }
+
+        int[] memberCounts() throws IOException {
+            return ints(CLUB_MEMBERS, clubCount, false);
+        }
+
+        int[] applicationCounts() throws IOException {
+            return ints(CLUB_APPLICATIONS, clubCount, false);
+        }
+
+        String[] applicants() throws IOException {
+            return dictionary(APP_APPLICANT, applicationCount);
+        }
+
+        String[] applicationTexts() throws IOException {
+            return strings(APP_TEXT, applicationCount);
+        }
+
+        long[] appliedAt() throws IOException {
+            ByteBuffer in = column(APP_APPLIED_AT);
+            long[] result = new long[applicationCount];
+            long previous = 0;
+            for (int i = 0; i < applicationCount; i++) {
+                previous += unzigzag(readVarlong(in));
+                result[i] = previous;
+            }
+            return result;
+        }
+
+        boolean[] priorities() throws IOException {
+            ByteBuffer in = column(APP_PRIORITY);
+            boolean[] result = new boolean[applicationCount];
+            boolean value = false;
+            int index = 0;
+            while (in.hasRemaining()) {
+                int run = (int) readVarlong(in);
+                if (index + run > applicationCount) throw new IOException("우선 선발 열이 손상되었습니다: " + file);
+                if (value) Arrays.fill(result, index, index + run, true);
+                index += run;
+                value = !value;
+            }
+            return result;
+        }
+
+        int[] scores() throws IOException {
+            return ints(APP_SCORE, applicationCount, true);
+        }
+
+        /**
+         * 모든 열을 읽어 {@link Club} 객체로 복원합니다. 복원한 객체를 바꿔도 보관 파일은 바뀌지 않습니다.
+         * {@link ClubQuery#list(java.util.Collection)}로 조회할 수 있습니다.
+         *
+         * @return 이름 순서의 {@link Club} 리스트
+         * @throws IOException 파일 읽기 중 오류가 발생하거나 열이 손상된 경우
+         */
+        List<Club> clubs() throws IOException {
+            String[] names = clubNames();
+            String[] presidents = presidents();
+            String[] descriptions = descriptions();
+            int[] capacities = capacities();
+            int[] members = memberCounts();
+            int[] counts = applicationCounts();
+            String[] applicants = applicants();
+            String[] texts = applicationTexts();
+            long[] appliedAt = appliedAt();
+            boolean[] priorities = priorities();
+            int[] scores = scores();
+            List<Club> clubs = new ArrayList<>(clubCount);
+            int row = 0;
+            for (int i = 0; i < clubCount; i++) {
+                Club club = new Club(names[i], presidents[i], descriptions[i], capacities[i], members[i]);
+                for (int j = 0; j < counts[i]; j++, row++) {
+                    club.addPendingApplication(new Member(applicants[row], texts[row], appliedAt[row],
+                            priorities[row], scores[row]));
+                }
+                clubs.add(club);
+            }
+            return clubs;
+        }
+
+        private String[] strings(String name, int rows) throws IOException {
+            ByteBuffer in = column(name);
+            String[] result = new String[rows];
+            for (int i = 0; i < rows; i++) {
+                result[i] = readString(in);
+            }
+            return result;
+        }
+
+        private String[] dictionary(String name, int rows) throws IOException {
+            ByteBuffer in = column(name);
+            String[] words = new String[(int) readVarlong(in)];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = readString(in);
+            }
+            String[] result = new String[rows];
+            for (int i = 0; i < rows; i++) {
+                result[i] = words[(int) readVarlong(in)];
+            }
+            return result;
+        }
+
+        private int[] ints(String name, int rows, boolean signed) throws IOException {
+            ByteBuffer in = column(name);
+            int[] result = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                long value = readVarlong(in);
+                result[i] = (int) (signed ? unzigzag(value) : value);
+            }
+            return result;
+        }
+
+        /**
+         * 열 하나를 읽어 압축을 풉니다.
+         *
+         * @throws IOException 열이 없거나, CRC32C가 맞지 않거나, 압축을 풀 수 없는 경우
+         */
+        private ByteBuffer column(String name) throws IOException {
+            long[] entry = directory.get(name);
+            if (entry == null) throw new IOException("보관 파일에 " + name + " 열이 없습니다: " + file);
+            byte[] compressed = new byte[(int) entry[1]];
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+                raf.seek(entry[0]);
+                raf.readFully(compressed);
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(compressed);
+            if ((int) crc.getValue() != (int) entry[3]) {
+                throw new IOException("보관 파일의 " + name + " 열이 손상되었습니다: " + file);
+            }
+            byte[] raw = new byte[(int) entry[2]];
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressed);
+                int read = 0;
+                while (read < raw.length && !inflater.finished()) {
+                    read += inflater.inflate(raw, read, raw.length - read);
+                }
+                if (read != raw.length) throw new IOException("보관 파일의 " + name + " 열 길이가 맞지 않습니다: " + file);
+            } catch (DataFormatException e) {
+                throw new IOException("보관 파일의 " + name + " 열 압축을 풀 수 없습니다: " + file, e);
+            } finally {
+                inflater.end();
+            }
+            return ByteBuffer.wrap(raw);
+        }
+
+        private static long readVarlong(ByteBuffer in) throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (!in.hasRemaining()) throw new IOException("보관 파일 열이 예상보다 짧습니다.");
+                byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+            throw new IOException("보관 파일 열의 정수 형식이 잘못되었습니다.");
+        }
+
+        private static String readString(ByteBuffer in) throws IOException {
+            int length = (int) readVarlong(in);
+            if (length > in.remaining()) throw new IOException("보관 파일 열이 예상보다 짧습니다.");
+            String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+    }
+
+    /**
+     * 가변 길이 정수와 문자열을 이어 쓰는 열 버퍼
+     */
+    private static class ColumnWriter extends ByteArrayOutputStream {
+        void writeVarint(int value) {
+            writeVarlong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarlong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * 사전 인코딩 열 버퍼. 처음 나온 순서대로 이름에 번호를 붙이고, 이름 목록 뒤에 행마다 번호를 씁니다.
+     */
+    private static class DictionaryWriter {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final ColumnWriter words = new ColumnWriter();
+        private final ColumnWriter rows = new ColumnWriter();
+
+        void add(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = ids.size();
+                ids.put(value, id);
+                words.writeString(value);
+            }
+            rows.writeVarint(id);
+        }
+
+        byte[] toByteArray() {
+            ColumnWriter out = new ColumnWriter();
+            out.writeVarint(ids.size());
+            out.write(words.toByteArray(), 0, words.size());
+            out.write(rows.toByteArray(), 0, rows.size());
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * 보관된 모든 학기의 요약을 출력합니다. 신청서 내용·소개 열은 읽지 않습니다.
+     */
+    void printReport() throws IOException {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+        System.out.printf("%-12s %8s %10s %8s %8s %10s %-23s%n",
+                "학기", "동아리", "신청", "회원", "우선", "평균 점수", "신청 기간");
+        long totalClubs = 0, totalApplications = 0, totalMembers = 0;
+        for (String semester : semesters()) {
+            Segment segment = open(semester);
+            long memberSum = 0;
+            for (int members : segment.memberCounts()) memberSum += members;
+            long prioritySum = 0;
+            for (boolean priority : segment.priorities()) if (priority) prioritySum++;
+            long scoreSum = 0;
+            for (int score : segment.scores()) scoreSum += score;
+            long first = Long.MAX_VALUE, last = Long.MIN_VALUE;
+            for (long appliedAt : segment.appliedAt()) {
+                first = Math.min(first, appliedAt);
+                last = Math.max(last, appliedAt);
+            }
+            int applications = segment.getApplicationCount();
+            System.out.printf("%-12s %8d %10d %8d %8d %10.1f %-23s%n", semester, segment.getClubCount(), applications,
+                    memberSum, prioritySum, applications == 0 ? 0.0 : (double) scoreSum / applications,
+                    applications == 0 ? "-" : format.format(new Date(first)) + " ~ " + format.format(new Date(last)));
+            totalClubs += segment.getClubCount();
+            totalApplications += applications;
+            totalMembers += memberSum;
+        }
+        System.out.printf("%-12s %8d %10d %8d%n", "합계", totalClubs, totalApplications, totalMembers);
+    }
+
+    /**
+     * 보관소 명령을 실행합니다.
+     *
+     * @param args "archive 학기 [동아리 이름...]", "report", "show 학기 [동아리 이름]"
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || (!args[0].equals("report") && args.length < 2)) {
+            System.out.println("사용법: java SemesterArchive archive <학기> [동아리 이름...] | report | show <학기> [동아리 이름]");
+            return;
+        }
+        SemesterArchive archive = fromSystemProperties();
+        try {
+            switch (args[0]) {
+                case "archive": {
+                    ClubManager clubManager = new ClubManager(
+                            ClubRepository.create(System.getProperty("club.repository", "text")));
+                    List<String> names = Arrays.asList(args).subList(2, args.length);
+                    long start = System.nanoTime();
+                    List<Club> clubs = archive.archive(clubManager, args[1],
+                            club -> names.isEmpty() || names.contains(club.getName()));
+                    System.out.printf("[INFO] 동아리 %d개를 %s 학기로 보관했습니다 (%.1f초).%n",
+                            clubs.size(), args[1], (System.nanoTime() - start) / 1e9);
+                    break;
+                }
+                case "report":
+                    archive.printReport();
+                    break;
+                case "show": {
+                    List<Club> clubs = archive.open(args[1]).clubs();
+                    if (args.length > 2) {
+                        clubs = ClubQuery.clubs().nameIs(args[2]).list(clubs);
+                    }
+                    for (Club club : clubs) {
+                        System.out.println(club.getName() + "\t" + club.getPresident() + "\t" + club.getDescription()
+                                + "\t신청 " + club.getPendingCount() + "건");
+                        for (Member member : club.getPendingApplications()) {
+                            System.out.println("  " + member.getName() + "\t" + member.getApplicationText());
+                        }
+                    }
+                    break;
+                }
+                default:
+                    System.out.println("[ERROR] 알 수 없는 명령입니다: " + args[0]);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("[ERROR] 보관소 작업 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+}
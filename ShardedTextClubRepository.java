@@ -0,0 +1,485 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * 해시 분할(샤딩) 텍스트 파일 동아리 저장소
+ * <p>
+ * 동아리를 이름의 해시값에 따라 N개의 파티션으로 나누고, 파티션마다 별도의 파일
+ * ("clubs_data.0.txt", "clubs_data.1.txt", ...)에 저장합니다. 각 파일의 형식은 "clubs_data.txt"와 같습니다.
+ * </p>
+ *
+ * <p>
+ * 동작 방식:
+ * <ul>
+ *   <li>시작 시 모든 파티션 파일을 병렬로 읽습니다.</li>
+ *   <li>추가·삭제·실행 취소는 해당 동아리의 파티션만 "변경됨"으로 표시하고,
+ *       {@link #flush()}는 변경된 파티션 파일만 병렬로 다시 씁니다.</li>
+ *   <li>파티션 수는 "clubs_data.shards" 파일에 기록됩니다. 이 파일이 없으면 {@code club.shards}
+ *       시스템 속성(기본값 4)을 사용하며, 기존 "clubs_data.txt"가 있으면 그 내용을 가져와 파티션으로 나눕니다.</li>
+ *   <li>{@link #rebalance(int)}로 실행 중에 파티션 수를 바꿀 수 있습니다. 재분배하는 동안 조회는 계속되고 변경만 잠시 대기합니다.</li>
+ *   <li>파티션 파일마다 {@link ChecksummedFile} 체크섬을 두고, 읽기 전에 검사합니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 재분배는 새 배치를 "clubs_data.N.txt.rebalance" 파일로 모두 쓴 뒤 "clubs_data.shards.rebalance" 파일(새 파티션 수)을
+ * 한 번에 만들어 확정하고, 그다음에 파티션 파일을 하나씩 교체합니다. 재분배 도중 프로그램이 종료되면 시작 시
+ * 확정 파일이 있으면 남은 교체를 마저 하고, 없으면 쓰다 만 ".rebalance" 파일을 지워 이전 배치로 돌아가므로
+ * 동아리가 사라지지 않습니다. 제자리에 있지 않은 동아리는 다음 저장 때 올바른 파티션으로 옮겨집니다.
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ShardedTextClubRepository extends InMemoryClubRepository {
+    static final int DEFAULT_SHARDS = 4;
+    static final String REBALANCE_SUFFIX = ".rebalance";
+
+    private final Path directory;
+    private final String baseName;
+    private final Pattern shardFilePattern;
+    private final Pattern rebalanceFilePattern;
+    private final Object flushLock = new Object();
+
+    /** 재분배를 확정했지만 파티션 파일 교체를 끝내지 못한 경우 true. 다음 저장 때 모든 파티션을 다시 씁니다. */
+    private volatile boolean rebalancePending;
+
+    /** 파티션별 변경 표시. 배열 길이가 곧 현재 파티션 수입니다. */
+    private volatile AtomicIntegerArray dirty;
+
+    /**
+     * 파티션 파일에서 동아리 데이터를 읽어 저장소를 초기화합니다.
+     *
+     * @param baseFile 기준 파일 경로 (예: "clubs_data.txt" → "clubs_data.0.txt", "clubs_data.shards")
+     * @param defaultShards 파티션 수 기록 파일이 없을 때 사용할 파티션 수
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public ShardedTextClubRepository(String baseFile, int defaultShards) {
+        Path base = Paths.get(baseFile).toAbsolutePath().normalize();
+        this.directory = base.getParent();
+        String fileName = base.getFileName().toString();
+        this.baseName = fileName.endsWith(".txt") ? fileName.substring(0, fileName.length() - 4) : fileName;
+        this.shardFilePattern = Pattern.compile(Pattern.quote(baseName) + "\\.(\\d+)\\.txt");
+        this.rebalanceFilePattern = Pattern.compile(
+                Pattern.quote(baseName) + "\\.(\\d+)\\.txt" + Pattern.quote(REBALANCE_SUFFIX) + "(\\.tmp)?");
+        recoverRebalance();
+        load(base, Math.max(1, defaultShards));
+    }
+
+    /**
+     * 파티션 수 기록 파일과 파티션 파일을 읽어 옵니다.
+     */
+    private void load(Path legacyFile, int defaultShards) {
+        dirty = new AtomicIntegerArray(readShardCount(defaultShards));
+
+        TreeMap<Integer, Path> files = existingShardFiles();
+        for (int i = 0; i < dirty.length(); i++) {
+            // 파티션 파일이 없고 ".bak"만 남은 경우에도 읽어 옵니다.
+            if (!files.containsKey(i) && ChecksummedFile.exists(shardFile(i, ""))) {
+                files.put(i, shardFile(i, ""));
+            }
+        }
+        if (files.isEmpty() && ChecksummedFile.exists(legacyFile)) {
+            for (Club club : TextFileClubRepository.readClubs(ChecksummedFile.readable(legacyFile).toString())) {
+                super.save(club);
+            }
+            for (int i = 0; i < dirty.length(); i++) {
+                dirty.set(i, 1);
+            }
+            System.out.println("[INFO] " + legacyFile.getFileName() + "의 동아리 " + count() + "개를 "
+                    + dirty.length() + "개 파티션으로 나눕니다.");
+        } else {
+            List<Integer> indexes = new ArrayList<>(files.keySet());
+            List<List<Club>> loaded = new ArrayList<>(Collections.nCopies(indexes.size(), (List<Club>) null));
+            boolean[] fromBackup = new boolean[indexes.size()];
+            IntStream.range(0, indexes.size()).parallel().forEach(i -> {
+                Path file = files.get(indexes.get(i));
+                Path source = ChecksummedFile.readable(file); // 손상된 블록은 읽기 전에 백업에서 복구
+                fromBackup[i] = !source.equals(file);
+                loaded.set(i, TextFileClubRepository.readClubs(source.toString()));
+            });
+            for (int i = 0; i < indexes.size(); i++) {
+                int fileIndex = indexes.get(i);
+                if (fromBackup[i]) {
+                    markDirty(fileIndex); // 백업에서 읽은 파티션은 다음 저장 때 파일을 다시 만듭니다.
+                }
+                for (Club club : loaded.get(i)) {
+                    super.save(club);
+                    if (shardOf(club.getName()) != fileIndex) {
+                        // 재분배가 중간에 끊긴 경우: 다음 저장 때 올바른 파티션으로 옮깁니다.
+                        markDirty(club.getName());
+                        markDirty(fileIndex);
+                    }
+                }
+            }
+        }
+        clearHistory();
+    }
+
+    @Override
+    public void save(Club club) {
+        super.save(club);
+        markDirty(club.getName());
+    }
+
+    @Override
+    public boolean delete(String name) {
+        boolean deleted = super.delete(name);
+        if (deleted) {
+            markDirty(name);
+        }
+        return deleted;
+    }
+
+    @Override
+    public String undo() {
+        String name = super.undo();
+        if (name != null) {
+            markDirty(name);
+        }
+        return name;
+    }
+
+    @Override
+    public String redo() {
+        String name = super.redo();
+        if (name != null) {
+            markDirty(name);
+        }
+        return name;
+    }
+
+    /**
+     * 변경된 파티션 파일만 병렬로 다시 씁니다.
+     * <p>
+     * 변경 표시를 먼저 지운 뒤 스냅샷을 찍으므로, 쓰는 도중에 들어온 변경은 다음 저장 때 반영됩니다.
+     * 파일 쓰기에 실패한 파티션은 다시 변경됨으로 표시하고 에러 메시지를 출력합니다.
+     * 파티션 수보다 번호가 큰 파일이 남아 있으면 삭제합니다.
+     * </p>
+     */
+    @Override
+    public void flush() {
+        synchronized (flushLock) {
+            AtomicIntegerArray flags = dirty;
+            int shards = flags.length();
+            boolean[] toWrite = new boolean[shards];
+            boolean any = false;
+            for (int i = 0; i < shards; i++) {
+                toWrite[i] = flags.getAndSet(i, 0) == 1;
+                any |= toWrite[i];
+            }
+            if (!any) return;
+
+            List<List<Club>> partitions = partition(snapshot(), shards, toWrite);
+            AtomicBoolean failed = new AtomicBoolean();
+            IntStream.range(0, shards).parallel().filter(i -> toWrite[i]).forEach(i -> {
+                try {
+                    writeShard(i, partitions.get(i), "");
+                } catch (IOException e) {
+                    flags.set(i, 1);
+                    failed.set(true);
+                    System.out.println("[ERROR] 동아리 파티션 " + i + "을(를) 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+                }
+            });
+            if (rebalancePending && !failed.get()) {
+                // 끝내지 못한 재분배: 모든 파티션을 메모리 내용으로 다시 썼으므로 남은 재분배 파일은 필요 없습니다.
+                try {
+                    finishRebalance(shards, false);
+                    rebalancePending = false;
+                } catch (IOException e) {
+                    System.out.println("[ERROR] 파티션 재분배를 마무리하는 중 오류가 발생했습니다: " + e.getMessage());
+                }
+            }
+            deleteStaleShards(shards);
+        }
+    }
+
+    /**
+     * 모든 파티션을 "변경됨"으로 표시한 뒤 다시 씁니다.
+     */
+    @Override
+    public void rewrite() {
+        AtomicIntegerArray flags = dirty;
+        for (int i = 0; i < flags.length(); i++) {
+            flags.set(i, 1);
+        }
+        flush();
+    }
+
+    @Override
+    public List<Path> dataFiles() {
+        return new ArrayList<>(existingShardFiles().values());
+    }
+
+    /**
+     * 실행 중에 파티션 수를 바꾸고 모든 동아리를 새 파티션으로 다시 나누어 씁니다.
+     * <p>
+     * 새 파티션 파일을 ".rebalance" 파일로 모두 쓰고, 확정 파일을 만든 뒤 파티션 파일을 교체하고 파티션 수 기록 파일을 갱신합니다.
+     * 확정 전에 실패하면 이전 배치가 그대로 남고, 확정 뒤에 실패하면 새 파티션 수로 전환한 채 다음 저장 때 모든 파티션을 다시 씁니다.
+     * 재분배하는 동안 조회는 계속되며, 추가·삭제는 재분배가 끝날 때까지 대기합니다.
+     * </p>
+     *
+     * @param newShardCount 새 파티션 수
+     * @return 재분배에 성공하면 true, 파일 쓰기에 실패하면 false
+     */
+    public boolean rebalance(int newShardCount) {
+        if (newShardCount < 1) {
+            throw new IllegalArgumentException("파티션 수는 1 이상이어야 합니다: " + newShardCount);
+        }
+        synchronized (this) {
+            synchronized (flushLock) {
+                boolean[] all = new boolean[newShardCount];
+                Arrays.fill(all, true);
+                List<List<Club>> partitions = partition(snapshot(), newShardCount, all);
+                AtomicBoolean failed = new AtomicBoolean();
+                IntStream.range(0, newShardCount).parallel().forEach(i -> {
+                    try {
+                        writeShard(i, partitions.get(i), REBALANCE_SUFFIX);
+                    } catch (IOException e) {
+                        failed.set(true);
+                        System.out.println("[ERROR] 파티션 재분배 중 오류가 발생했습니다: " + e.getMessage());
+                    }
+                });
+                try {
+                    if (!failed.get()) {
+                        writeShardCount(rebalanceMarker(), newShardCount); // 확정
+                    }
+                } catch (IOException e) {
+                    failed.set(true);
+                    System.out.println("[ERROR] 파티션 재분배 중 오류가 발생했습니다: " + e.getMessage());
+                }
+                if (failed.get()) {
+                    deleteRebalanceFiles();
+                    return false;
+                }
+
+                dirty = new AtomicIntegerArray(newShardCount);
+                try {
+                    finishRebalance(newShardCount, true);
+                } catch (IOException e) {
+                    rebalancePending = true;
+                    for (int i = 0; i < newShardCount; i++) {
+                        dirty.set(i, 1);
+                    }
+                    System.out.println("[ERROR] 파티션 재분배 중 오류가 발생했습니다. 다음 저장 때 모든 파티션을 다시 씁니다: "
+                            + e.getMessage());
+                    return false;
+                }
+                System.out.println("[INFO] 동아리 " + count() + "개를 " + newShardCount + "개 파티션으로 재분배했습니다.");
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 파티션 수를 반환합니다.
+     *
+     * @return 파티션 수
+     */
+    public int getShardCount() {
+        return dirty.length();
+    }
+
+    /**
+     * 동아리 이름이 속하는 파티션 번호를 반환합니다.
+     *
+     * @param name 동아리 이름
+     * @return 0 이상 파티션 수 미만의 파티션 번호
+     */
+    int shardOf(String name) {
+        return Math.floorMod(name.hashCode(), dirty.length());
+    }
+
+    private static List<List<Club>> partition(PersistentHashMap<String, Club> clubs, int shards, boolean[] wanted) {
+        List<List<Club>> partitions = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        clubs.forEachValue(club -> {
+            int shard = Math.floorMod(club.getName().hashCode(), shards);
+            if (wanted[shard]) {
+                partitions.get(shard).add(club);
+            }
+        });
+        return partitions;
+    }
+
+    /**
+     * 파티션 파일을 임시 파일에 쓴 뒤 이름을 바꿔 교체합니다.
+     *
+     * @param suffix 최종 파일 이름에 붙일 접미사 (재분배 중에는 ".rebalance")
+     */
+    private void writeShard(int index, List<Club> clubs, String suffix) throws IOException {
+        Path target = shardFile(index, suffix);
+        Path temp = shardFile(index, suffix + ".tmp");
+        try (BufferedWriter bw = new BufferedWriter(new FileWriter(temp.toFile()))) {
+            bw.write(TextFileClubRepository.FORMAT_HEADER + System.lineSeparator());
+            for (Club club : clubs) {
+                bw.write(TextFileClubRepository.formatClub(club));
+            }
+        }
+        if (suffix.isEmpty()) {
+            ChecksummedFile.replace(target, temp);
+        } else {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 확정된 재분배를 마무리합니다. ".rebalance" 파일로 파티션 파일을 교체하고(replace가 true일 때),
+     * 파티션 수 기록 파일을 갱신한 뒤 남은 재분배 파일, 확정 파일, 파티션 수보다 번호가 큰 파일을 지웁니다.
+     * 중간에 종료되어도 다시 호출하면 이어서 진행합니다.
+     */
+    private void finishRebalance(int shards, boolean replace) throws IOException {
+        if (replace) {
+            for (int i = 0; i < shards; i++) {
+                Path next = shardFile(i, REBALANCE_SUFFIX);
+                if (Files.isRegularFile(next)) {
+                    ChecksummedFile.replace(shardFile(i, ""), next);
+                }
+            }
+        }
+        writeShardCount(shardCountFile(), shards);
+        deleteStaleShards(shards);
+        deleteRebalanceFiles();
+    }
+
+    /**
+     * 시작 시 중간에 끊긴 재분배를 정리합니다. 확정 파일이 있으면 마무리하고, 없으면 쓰다 만 재분배 파일을 지웁니다.
+     */
+    private void recoverRebalance() {
+        Path marker = rebalanceMarker();
+        if (!Files.isRegularFile(marker)) {
+            deleteRebalanceFiles();
+            return;
+        }
+        try {
+            int shards = Integer.parseInt(Files.readString(marker).trim());
+            finishRebalance(shards, true);
+            System.out.println("[INFO] 중간에 끊긴 파티션 재분배(" + shards + "개)를 마무리했습니다.");
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("[ERROR] 중간에 끊긴 파티션 재분배를 마무리할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 재분배 파일(".rebalance", ".rebalance.tmp")과 확정 파일을 지웁니다. 확정 파일은 마지막에 지웁니다.
+     */
+    private void deleteRebalanceFiles() {
+        File[] entries = directory.toFile().listFiles();
+        if (entries != null) {
+            for (File entry : entries) {
+                if (entry.isFile() && rebalanceFilePattern.matcher(entry.getName()).matches()) {
+                    entry.delete();
+                }
+            }
+        }
+        rebalanceMarker().toFile().delete();
+    }
+
+    private void deleteStaleShards(int shards) {
+        for (int index : existingShardFiles().keySet()) {
+            if (index >= shards) {
+                ChecksummedFile.delete(shardFile(index, ""));
+            }
+        }
+    }
+
+    private TreeMap<Integer, Path> existingShardFiles() {
+        TreeMap<Integer, Path> files = new TreeMap<>();
+        File[] entries = directory.toFile().listFiles();
+        if (entries == null) return files;
+        for (File entry : entries) {
+            Matcher matcher = shardFilePattern.matcher(entry.getName());
+            if (entry.isFile() && matcher.matches()) {
+                files.put(Integer.parseInt(matcher.group(1)), entry.toPath());
+            }
+        }
+        return files;
+    }
+
+    private Path shardFile(int index, String suffix) {
+        return directory.resolve(baseName + "." + index + ".txt" + suffix);
+    }
+
+    private Path shardCountFile() {
+        return directory.resolve(baseName + ".shards");
+    }
+
+    private Path rebalanceMarker() {
+        return directory.resolve(baseName + ".shards" + REBALANCE_SUFFIX);
+    }
+
+    private int readShardCount(int defaultShards) {
+        Path file = shardCountFile();
+        if (Files.isRegularFile(file)) {
+            try {
+                return Math.max(1, Integer.parseInt(Files.readString(file).trim()));
+            } catch (IOException | NumberFormatException e) {
+                System.out.println("[ERROR] 파티션 수를 읽을 수 없어 " + defaultShards + "개를 사용합니다: " + e.getMessage());
+            }
+        }
+        try {
+            writeShardCount(shardCountFile(), defaultShards);
+        } catch (IOException e) {
+            System.out.println("[ERROR] 파티션 수를 기록할 수 없습니다: " + e.getMessage());
+        }
+        return defaultShards;
+    }
+
+    private void writeShardCount(Path file, int shards) throws IOException {
+        Path temp = Paths.get(file + ".tmp");
+        Files.writeString(temp, shards + System.lineSeparator());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void markDirty(String name) {
+        AtomicIntegerArray flags = dirty;
+        flags.set(Math.floorMod(name.hashCode(), flags.length()), 1);
+    }
+
+    private void markDirty(int shard) {
+        AtomicIntegerArray flags = dirty;
+        if (shard < flags.length()) {
+            flags.set(shard, 1);
+        }
+    }
+
+    /**
+     * 파티션 재분배 도구의 진입점입니다.
+     * <p>
+     * 실행 예: {@code java ShardedTextClubRepository 8} — 현재 디렉터리의 "clubs_data" 파티션을 8개로 재분배합니다.
+     * 실행 중인 프로그램에서는 {@link #rebalance(int)}를 직접 호출합니다.
+     * </p>
+     *
+     * @param args 새 파티션 수
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.out.println("사용법: java ShardedTextClubRepository <파티션 수>");
+            return;
+        }
+        ShardedTextClubRepository repository =
+                new ShardedTextClubRepository(TextFileClubRepository.DEFAULT_FILE, DEFAULT_SHARDS);
+        repository.flush();
+        repository.rebalance(Integer.parseInt(args[0].trim()));
+    }
+}
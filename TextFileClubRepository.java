@@ -0,0 +1,209 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 텍스트 파일 기반 동아리 저장소
+ * <p>
+ * 생성 시 파일에서 모든 동아리를 메모리로 읽어 오고, {@link #flush()} 호출 시 전체 목록을 파일에 다시 씁니다.
+ * 가입 신청서는 파일에 저장되지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 파일 형식:
+ * <ul>
+ *   <li>파일 이름: 기본값 "clubs_data.txt"</li>
+ *   <li>첫 줄: 형식 표시 "{@value #FORMAT_HEADER}"</li>
+ *   <li>형식: "동아리 이름,회장 이름,소개,정원,회원 수". 값 안의 쉼표는 "\,", 역슬래시는 "\\"로 씁니다.
+ *       직접 추가한 줄에서 ",정원,회원 수"는 생략할 수 있습니다.</li>
+ *   <li>형식 표시가 없는 예전 파일은 "동아리 이름,회장 이름,소개"로 읽고, 다음 저장 때 새 형식으로 바꿉니다.</li>
+ *   <li>줄바꿈: 각 동아리마다 한 줄</li>
+ *   <li>무결성: "clubs_data.txt.crc"에 블록 단위 CRC32C 체크섬을, "clubs_data.txt.bak"에 직전 정상 버전을 둡니다.
+ *       자세한 내용은 {@link ChecksummedFile}을 참고하세요.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class TextFileClubRepository extends InMemoryClubRepository {
+    static final String DEFAULT_FILE = "clubs_data.txt";
+    static final String FORMAT_HEADER = "#clubs v2";
+
+    private final String fileName;
+    private final Object flushLock = new Object();
+
+    /**
+     * 파일에서 동아리 데이터를 읽어 저장소를 초기화합니다.
+     *
+     * @param fileName 동아리 데이터 파일 경로
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public TextFileClubRepository(String fileName) {
+        this.fileName = fileName;
+        load();
+    }
+
+    /**
+     * 파일에서 동아리 데이터를 읽어옵니다.
+     * <p>
+     * 각 라인은 ,(컴마)를 기준으로 "동아리 이름,회장 이름,소개[,정원,회원 수]" 형식으로 작성되어야 합니다.
+     * 파일이 없거나 읽기에 실패할 경우 에러 메시지를 출력합니다.
+     * 파일이 없거나 복구할 수 없게 손상되었으면 직전 정상 버전(".bak")을 읽고,
+     * 읽은 내용으로 데이터 파일을 바로 다시 씁니다. 자세한 내용은 {@link ChecksummedFile#readable(Path)}를 참고하세요.
+     * </p>
+     *
+     * @created 2024-12-18
+     * @lastModified 2026-10-18
+     */
+    private void load() {
+        Path file = Paths.get(fileName);
+        Path source = ChecksummedFile.readable(file); // 손상된 블록은 읽기 전에 백업에서 복구
+        for (Club club : readClubs(source.toString())) {
+            save(club);
+        }
+        clearHistory();
+        if (!source.equals(file)) {
+            flush();
+        }
+    }
+
+    /**
+     * 동아리 데이터 파일을 읽어 {@link Club} 목록으로 반환합니다.
+     * <p>
+     * 첫 줄이 {@link #FORMAT_HEADER}이면 이스케이프된 필드와 정원·회원 수를 읽고,
+     * 없으면 예전 형식으로 보고 앞의 세 필드만 읽습니다(예전처럼 소개의 쉼표 뒤는 잘립니다).
+     * 필드가 세 개 미만이거나 정원·회원 수가 숫자가 아닌 줄은 건너뛰고 그 수를 에러 메시지로 알리며,
+     * 읽기에 실패하면 정보 메시지를 출력하고 읽은 데까지 반환합니다.
+     * </p>
+     *
+     * @param fileName 동아리 데이터 파일 경로
+     * @return 파일에 기록된 순서대로의 {@link Club} 객체 리스트
+     * @created 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    static List<Club> readClubs(String fileName) {
+        List<Club> result = new ArrayList<>();
+        int skipped = 0;
+        try (BufferedReader br = new BufferedReader(new FileReader(fileName))) {
+            String line = br.readLine();
+            boolean escaped = FORMAT_HEADER.equals(line);
+            if (escaped) line = br.readLine();
+            for (; line != null; line = br.readLine()) {
+                List<String> parts = escaped ? splitFields(line) : List.of(line.split(","));
+                Club club = parts.size() >= 3 ? toClub(parts, escaped) : null;
+                if (club != null) {
+                    result.add(club);
+                } else if (!line.trim().isEmpty()) {
+                    skipped++;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[INFO] 초기 동아리 데이터를 로드할 수 없습니다: " + e.getMessage());
+        }
+        if (skipped > 0) {
+            System.out.println("[ERROR] " + fileName + "에서 형식이 잘못된 줄 " + skipped + "개를 건너뛰었습니다.");
+        }
+        return result;
+    }
+
+    /**
+     * 동아리 한 줄을 파일 형식으로 만듭니다. 파일 첫 줄에는 {@link #FORMAT_HEADER}를 먼저 써야 합니다.
+     *
+     * @param club 동아리 객체
+     * @return 줄바꿈을 포함한 한 줄
+     */
+    static String formatClub(Club club) {
+        return String.format("%s,%s,%s,%d,%d%n", escapeField(club.getName()), escapeField(club.getPresident()),
+                escapeField(club.getDescription()), club.getCapacity(), club.getMemberCount());
+    }
+
+    /**
+     * 필드 목록으로 동아리를 만듭니다. 예전 형식이면 앞의 세 필드만 사용합니다.
+     *
+     * @return {@link Club} 객체. 정원·회원 수가 숫자가 아니면 null
+     */
+    private static Club toClub(List<String> parts, boolean escaped) {
+        String name = parts.get(0).trim();
+        String president = parts.get(1).trim();
+        String description = parts.get(2).trim();
+        if (!escaped || parts.size() == 3) {
+            return new Club(name, president, description);
+        }
+        if (parts.size() != 5) return null;
+        try {
+            return new Club(name, president, description,
+                    Integer.parseInt(parts.get(3).trim()), Integer.parseInt(parts.get(4).trim()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String escapeField(String value) {
+        return value.replace("\\", "\\\\").replace(",", "\\,").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * 이스케이프되지 않은 쉼표로 줄을 나누고 각 필드의 이스케이프를 풉니다.
+     */
+    static List<String> splitFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                field.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 동아리 데이터를 파일에 저장합니다.
+     * <p>
+     * 현재 버전의 {@link #snapshot()}을 기록하므로, 파일을 쓰는 동안에도 다른 스레드의 변경이 막히지 않습니다.
+     * 임시 파일에 다 쓴 뒤 {@link ChecksummedFile#replace(Path, Path)}로 교체하므로 쓰다 만 파일이 남지 않습니다.
+     * 파일 쓰기 중 문제가 발생할 경우, 예외를 잡아 에러 메시지를 출력합니다.
+     * </p>
+     *
+     * @created 2024-12-20
+     * @lastModified 2026-10-18
+     */
+    @Override
+    public void flush() {
+        synchronized (flushLock) {
+            Path temp = Paths.get(fileName + ".tmp");
+            try {
+                try (BufferedWriter bw = new BufferedWriter(new FileWriter(temp.toFile()))) {
+                    bw.write(FORMAT_HEADER + System.lineSeparator());
+                    for (Club club : snapshot().values()) {
+                        bw.write(formatClub(club));
+                    }
+                }
+                ChecksummedFile.replace(Paths.get(fileName), temp);
+            } catch (IOException e) {
+                System.out.println("[ERROR] 동아리 데이터를 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public List<Path> dataFiles() {
+        return List.of(Paths.get(fileName));
+    }
+}
@@ -0,0 +1,218 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ * <p>
+ * 많은 수의 만료 시각을 스레드 하나로 관리하기 위한 자료구조입니다.
+ * 예약({@link #schedule(Object, long)})과 취소({@link #cancel(Timeout)})는 항목 수와 관계없이 O(1)이며,
+ * {@link #advance(long)}를 주기적으로 호출하면 시각이 지난 항목을 모아 반환합니다.
+ * </p>
+ *
+ * <p>
+ * 구조:
+ * <ul>
+ *   <li>{@link #LEVELS}개의 단계마다 {@link #SLOTS}개의 칸이 있으며, 0단계 한 칸은 한 틱(tick)입니다.
+ *       n단계 한 칸은 (n-1)단계 전체와 같은 길이입니다.</li>
+ *   <li>만료까지 남은 틱 수에 따라 알맞은 단계의 칸에 항목을 넣습니다.
+ *       윗단계 칸의 시간대가 시작되면 그 칸의 항목을 아랫단계로 다시 나누어 넣습니다.</li>
+ *   <li>각 칸은 이중 연결 리스트이므로 취소 시 항목을 바로 떼어낼 수 있습니다.</li>
+ * </ul>
+ * 틱이 1초이면 약 34년까지의 만료 시각을 그대로 담을 수 있고, 그보다 먼 시각은 가장 윗단계에 머물다 다시 나누어집니다.
+ * </p>
+ *
+ * <p>
+ * 참고: 모든 메서드는 휠 자체에 동기화되어 있으며, 각 호출은 짧은 시간만 잠금을 잡습니다.
+ * </p>
+ *
+ * @param <T> 만료 시 돌려받을 값의 타입
+ * @author Ji Woon Kim
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class TimingWheel<T> {
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 5;
+
+    /**
+     * 예약된 항목. {@link #cancel(Timeout)}에 넘겨 예약을 취소합니다.
+     */
+    static final class Timeout<T> {
+        final T value;
+        final long deadline;
+        private final long tick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadline, long tick) {
+            this.value = value;
+            this.deadline = deadline;
+            this.tick = tick;
+        }
+
+        private boolean isLinked() {
+            return prev != null;
+        }
+    }
+
+    private final long tickMillis;
+    private final Timeout<T>[][] wheels;
+    private final Timeout<T> overdue;
+    private long currentTick;
+    private int size;
+
+    /**
+     * {@link TimingWheel} 객체를 초기화합니다.
+     *
+     * @param tickMillis 한 틱의 길이(밀리초)
+     * @param startMillis 휠의 시작 시각(epoch ms)
+     */
+    public TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        this.wheels = newWheels();
+        for (Timeout<T>[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = sentinel();
+            }
+        }
+        this.overdue = sentinel();
+    }
+
+    /**
+     * 휠 배열을 만듭니다. 제네릭 배열은 직접 만들 수 없으므로 원시 타입 배열을 만들어 변환합니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Timeout<T>[][] newWheels() {
+        return (Timeout<T>[][]) new Timeout[LEVELS][SLOTS];
+    }
+
+    /**
+     * 값을 주어진 시각에 만료되도록 예약합니다.
+     * <p>
+     * 이미 지난 시각이면 다음 {@link #advance(long)} 호출 때 바로 반환됩니다.
+     * </p>
+     *
+     * @param value 만료 시 돌려받을 값
+     * @param deadline 만료 시각(epoch ms)
+     * @return 취소에 사용할 {@link Timeout}
+     */
+    public synchronized Timeout<T> schedule(T value, long deadline) {
+        Timeout<T> timeout = new Timeout<>(value, deadline, Math.floorDiv(deadline, tickMillis));
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 예약을 취소합니다.
+     *
+     * @param timeout {@link #schedule(Object, long)}가 반환한 항목
+     * @return 취소되었으면 true, 이미 만료되었거나 취소된 항목이면 false
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isLinked()) return false;
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * 휠을 주어진 시각까지 진행하고, 그동안 만료된 값을 틱 순서대로 반환합니다.
+     *
+     * @param now 현재 시각(epoch ms)
+     * @return 만료된 값 목록
+     */
+    public synchronized List<T> advance(long now) {
+        List<T> expired = new ArrayList<>();
+        drain(overdue, expired);
+        long target = Math.floorDiv(now, tickMillis);
+        while (currentTick < target) {
+            currentTick++;
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+                cascade(wheels[level][slot(currentTick, level)]);
+            }
+            drain(wheels[0][slot(currentTick, 0)], expired);
+            drain(overdue, expired);
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * 예약된 항목 수를 반환합니다.
+     *
+     * @return 아직 만료되지 않은 항목 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long delta = timeout.tick - currentTick;
+        if (delta <= 0) {
+            link(overdue, timeout);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                link(wheels[level][slot(timeout.tick, level)], timeout);
+                return;
+            }
+        }
+        // 휠이 담을 수 있는 범위를 넘으면 가장 윗단계의 마지막 칸에 두고, 그 칸이 다시 나누어질 때 재배치합니다.
+        long farthest = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        link(wheels[LEVELS - 1][slot(farthest, LEVELS - 1)], timeout);
+    }
+
+    private void cascade(Timeout<T> head) {
+        Timeout<T> node = head.next;
+        head.next = head;
+        head.prev = head;
+        while (node != head) {
+            Timeout<T> next = node.next;
+            insert(node);
+            node = next;
+        }
+    }
+
+    private void drain(Timeout<T> head, List<T> expired) {
+        Timeout<T> node = head.next;
+        while (node != head) {
+            Timeout<T> next = node.next;
+            node.prev = null;
+            node.next = null;
+            expired.add(node.value);
+            node = next;
+        }
+        head.next = head;
+        head.prev = head;
+    }
+
+    private static int slot(long tick, int level) {
+        return (int) (tick >>> (SLOT_BITS * level)) & (SLOTS - 1);
+    }
+
+    private Timeout<T> sentinel() {
+        Timeout<T> head = new Timeout<>(null, 0, 0);
+        head.prev = head;
+        head.next = head;
+        return head;
+    }
+
+    private static <T> void link(Timeout<T> head, Timeout<T> node) {
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+    }
+
+    private static <T> void unlink(Timeout<T> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+}